@@ -0,0 +1,67 @@
+package br.com.moneyflow.config.security;
+
+import br.com.moneyflow.service.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do JwtAuthenticationFilter por requisição autenticada.
+ * legacyDoubleParse reproduz o fluxo anterior (chave derivada e parser montado duas vezes).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "chave-secreta-para-jwt-token-com-minimo-256-bits-necessarios-para-hmac-sha256";
+
+    @Param({"0", "10000"})
+    private long verifiedCacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private MockHttpServletRequest request;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService(SECRET, 86_400_000L, verifiedCacheSize);
+        filter = new JwtAuthenticationFilter(jwtService, new SimpleMeterRegistry());
+        token = jwtService.generateToken(42L);
+
+        request = new MockHttpServletRequest("GET", "/api/v1/dashboard/summary");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public void filter() throws Exception {
+        filter.doFilterInternal(request, response, chain);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void legacyDoubleParse(Blackhole blackhole) {
+        blackhole.consume(Jwts.parser().verifyWith(legacyKey()).build().parseSignedClaims(token));
+        blackhole.consume(Long.parseLong(
+                Jwts.parser().verifyWith(legacyKey()).build().parseSignedClaims(token).getPayload().getSubject()));
+    }
+
+    private static SecretKey legacyKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+}
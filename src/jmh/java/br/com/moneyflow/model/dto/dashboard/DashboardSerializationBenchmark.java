@@ -0,0 +1,84 @@
+package br.com.moneyflow.model.dto.dashboard;
+
+import br.com.moneyflow.model.dto.budget.BudgetStatusDTO;
+import br.com.moneyflow.model.dto.category.CategorySimpleDTO;
+import br.com.moneyflow.model.dto.transaction.CategoryExpenseDTO;
+import br.com.moneyflow.model.dto.transaction.TransactionResponseDTO;
+import br.com.moneyflow.model.entity.CategoryType;
+import br.com.moneyflow.model.entity.PaymentMethod;
+import br.com.moneyflow.model.entity.TransactionType;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização Jackson das respostas do dashboard com volumes típicos (10 categorias,
+ * 10 orçamentos, 5 transações recentes, 12 meses).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DashboardSerializationBenchmark {
+
+    private JsonMapper jsonMapper;
+    private MonthlySummaryDTO monthlySummary;
+    private YearlyOverviewDTO yearlyOverview;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+
+        List<CategoryExpenseDTO> expenses = new ArrayList<>();
+        List<BudgetStatusDTO> budgets = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            expenses.add(new CategoryExpenseDTO(i, "Categoria " + i, BigDecimal.valueOf(10_000 + i * 731, 2),
+                    BigDecimal.valueOf(1000 - i * 37, 2), 12L));
+            budgets.add(new BudgetStatusDTO(i, i, "Categoria " + i, 3, 2024, new BigDecimal("500.00"),
+                    new BigDecimal("412.30"), new BigDecimal("87.70"), new BigDecimal("82.46"),
+                    BudgetStatusDTO.BudgetStatus.NEAR_LIMIT, 9L));
+        }
+
+        LocalDateTime now = LocalDateTime.of(2024, 3, 20, 10, 30);
+        List<TransactionResponseDTO> recent = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            recent.add(new TransactionResponseDTO(i, "Transação " + i, new BigDecimal("99.90"),
+                    LocalDate.of(2024, 3, (int) i), TransactionType.EXPENSE,
+                    new CategorySimpleDTO(i, "Categoria " + i, CategoryType.EXPENSE),
+                    PaymentMethod.PIX, null, now, now));
+        }
+
+        monthlySummary = new MonthlySummaryDTO(3, 2024, new BigDecimal("8500.00"), new BigDecimal("6230.45"),
+                new BigDecimal("2269.55"), new BigDecimal("26.70"), expenses, budgets, 3L, recent, false);
+
+        List<MonthDataDTO> months = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            months.add(new MonthDataDTO(month, 2024, new BigDecimal("8500.00"), new BigDecimal("6230.45"),
+                    new BigDecimal("2269.55")));
+        }
+        TrendDTO trend = new TrendDTO(YearlyOverviewDTO.TrendDirection.STABLE, BigDecimal.ZERO, "Estável");
+
+        yearlyOverview = new YearlyOverviewDTO(2024, new BigDecimal("102000.00"), new BigDecimal("74765.40"),
+                new BigDecimal("27234.60"), new BigDecimal("8500.00"), new BigDecimal("6230.45"),
+                new BigDecimal("2269.55"), months.get(0), months.get(11), new BigDecimal("26.70"),
+                months, trend, trend);
+    }
+
+    @Benchmark
+    public byte[] monthlySummary() {
+        return jsonMapper.writeValueAsBytes(monthlySummary);
+    }
+
+    @Benchmark
+    public byte[] yearlyOverview() {
+        return jsonMapper.writeValueAsBytes(yearlyOverview);
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.model.dto.dashboard.MonthDataDTO;
+import br.com.moneyflow.model.dto.dashboard.TrendDTO;
+import br.com.moneyflow.model.dto.dashboard.VariationDTO;
+import br.com.moneyflow.model.dto.projection.BudgetStatusProjection;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculos em BigDecimal executados a cada montagem do dashboard e do status de orçamento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DashboardCalculationBenchmark {
+
+    private List<MonthDataDTO> monthlyData;
+    private BudgetStatusProjection budgetStatus;
+    private final BigDecimal previous = new BigDecimal("4321.87");
+    private final BigDecimal current = new BigDecimal("5012.40");
+
+    @Setup
+    public void setUp() {
+        monthlyData = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            BigDecimal income = BigDecimal.valueOf(5000 + month * 137L, 2);
+            BigDecimal expense = BigDecimal.valueOf(3500 + month * 211L, 2);
+            monthlyData.add(new MonthDataDTO(month, 2024, income, expense, income.subtract(expense)));
+        }
+
+        budgetStatus = new BudgetStatusProjection() {
+            public Long getId() { return 1L; }
+            public Long getCategoryId() { return 1L; }
+            public String getCategoryName() { return "Alimentação"; }
+            public BigDecimal getBudgetAmount() { return new BigDecimal("1500.00"); }
+            public BigDecimal getSpentAmount() { return new BigDecimal("1234.56"); }
+        };
+    }
+
+    @Benchmark
+    public VariationDTO calculateVariation() {
+        return DashboardCalculations.variation(previous, current);
+    }
+
+    @Benchmark
+    public TrendDTO calculateTrend() {
+        return DashboardCalculations.trend(monthlyData, false);
+    }
+
+    @Benchmark
+    public BigDecimal budgetPercentageUsed() {
+        return budgetStatus.getPercentageUsed();
+    }
+}
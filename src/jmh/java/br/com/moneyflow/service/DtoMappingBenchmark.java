@@ -0,0 +1,60 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.model.dto.projection.TransactionListProjection;
+import br.com.moneyflow.model.dto.transaction.TransactionResponseDTO;
+import br.com.moneyflow.model.entity.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeamento de entidade/projeção para TransactionResponseDTO, feito por item de cada página.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private Transaction transaction;
+    private TransactionListProjection projection;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        User user = new User(1L, "Usuário", "usuario@moneyflow.test", "x", now, now, true);
+        Category category = new Category(10L, "Mercado", null, CategoryType.EXPENSE, "#00AA00", "cart", user, now, now, 1L, null);
+        transaction = new Transaction(100L, "Compra do mês", new BigDecimal("432.10"), LocalDate.of(2024, 3, 15),
+                TransactionType.EXPENSE, PaymentMethod.DEBIT_CARD, null, category, user, now, now, false);
+
+        projection = new TransactionListProjection() {
+            public Long getId() { return 100L; }
+            public String getDescription() { return "Compra do mês"; }
+            public BigDecimal getAmount() { return new BigDecimal("432.10"); }
+            public LocalDate getDate() { return LocalDate.of(2024, 3, 15); }
+            public TransactionType getType() { return TransactionType.EXPENSE; }
+            public Long getCategoryId() { return 10L; }
+            public String getCategoryName() { return "Mercado"; }
+            public CategoryType getCategoryType() { return CategoryType.EXPENSE; }
+            public PaymentMethod getPaymentMethod() { return PaymentMethod.DEBIT_CARD; }
+            public String getNotes() { return null; }
+            public LocalDateTime getCreatedAt() { return now; }
+            public LocalDateTime getUpdatedAt() { return now; }
+        };
+    }
+
+    @Benchmark
+    public TransactionResponseDTO entityToDTO() {
+        return TransactionResponseMapper.toDTO(transaction);
+    }
+
+    @Benchmark
+    public TransactionResponseDTO projectionToDTO() {
+        return TransactionResponseMapper.toDTO(projection);
+    }
+}
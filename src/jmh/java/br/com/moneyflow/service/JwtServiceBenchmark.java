@@ -0,0 +1,38 @@
+package br.com.moneyflow.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emissão e verificação de tokens sem o cache de tokens verificados (pior caso por requisição).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "chave-secreta-para-jwt-token-com-minimo-256-bits-necessarios-para-hmac-sha256";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 86_400_000L, 0);
+        token = jwtService.generateToken(42L);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(42L);
+    }
+
+    @Benchmark
+    public Long verifyToken() {
+        return jwtService.getUserIdFromToken(token);
+    }
+}
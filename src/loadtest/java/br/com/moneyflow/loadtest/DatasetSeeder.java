@@ -0,0 +1,200 @@
+package br.com.moneyflow.loadtest;
+
+import tools.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Cria (ou reaproveita) os usuários do teste de carga com categorias, orçamentos dos últimos
+ * 12 meses e histórico de transações de vários anos, enviado pela importação em CSV.
+ * A geração é determinística por usuário, então execuções repetidas produzem o mesmo dataset.
+ */
+final class DatasetSeeder {
+
+    private static final List<String[]> EXPENSE_CATEGORIES = List.of(
+            new String[]{"Mercado", "350", "#2E7D32"},
+            new String[]{"Moradia", "1800", "#6D4C41"},
+            new String[]{"Transporte", "250", "#1565C0"},
+            new String[]{"Alimentação", "600", "#EF6C00"},
+            new String[]{"Lazer", "300", "#8E24AA"},
+            new String[]{"Saúde", "200", "#C62828"},
+            new String[]{"Educação", "400", "#00838F"});
+    private static final List<String[]> INCOME_CATEGORIES = List.of(
+            new String[]{"Salário", "6500", "#1B5E20"},
+            new String[]{"Freelance", "1200", "#33691E"});
+    private static final int PARALLEL_USERS = 4;
+
+    private final ApiClient client;
+    private final LoadTestConfig config;
+
+    DatasetSeeder(ApiClient client, LoadTestConfig config) {
+        this.client = client;
+        this.config = config;
+    }
+
+    List<UserSession> seed() throws Exception {
+        Semaphore permits = new Semaphore(PARALLEL_USERS);
+        List<Future<UserSession>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 1; user <= config.users(); user++) {
+                int index = user;
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return seedUser(index);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            List<UserSession> sessions = new ArrayList<>();
+            for (Future<UserSession> future : futures) {
+                sessions.add(future.get());
+            }
+            return sessions;
+        }
+    }
+
+    private UserSession seedUser(int index) throws IOException, InterruptedException {
+        String email = LoadTestConfig.email(index);
+
+        boolean created = false;
+        if (config.seed()) {
+            HttpResponse<String> register = client.post("/api/v1/auth/register", null,
+                    Map.of("name", "Load Test " + index, "email", email, "password", LoadTestConfig.PASSWORD));
+            created = register.statusCode() == 201;
+            if (!created && register.statusCode() != 409) {
+                throw new IllegalStateException("Falha ao registrar " + email + ": " + register.body());
+            }
+        }
+
+        HttpResponse<String> login = client.post("/api/v1/auth/login", null,
+                Map.of("email", email, "password", LoadTestConfig.PASSWORD));
+        if (login.statusCode() != 200) {
+            throw new IllegalStateException("Falha no login de " + email + " (rode com -Dloadtest.seed=true): " + login.body());
+        }
+        String token = client.json(login).get("token").asString();
+
+        if (created) {
+            Random random = new Random(index);
+            List<Long> expenseIds = createCategories(token, EXPENSE_CATEGORIES, "EXPENSE");
+            createCategories(token, INCOME_CATEGORIES, "INCOME");
+            createBudgets(token, expenseIds);
+            importHistory(token, random);
+            System.out.printf("Usuário %s semeado%n", email);
+        }
+
+        return new UserSession(index, token, categoryIds(token));
+    }
+
+    private List<Long> createCategories(String token, List<String[]> categories, String type)
+            throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        for (String[] category : categories) {
+            HttpResponse<String> response = client.post("/api/v1/categories", token,
+                    Map.of("name", category[0], "type", type, "color", category[2], "icon", "tag"));
+            if (response.statusCode() == 201) {
+                ids.add(client.json(response).get("id").asLong());
+            }
+        }
+        return ids;
+    }
+
+    private void createBudgets(String token, List<Long> expenseCategoryIds) throws IOException, InterruptedException {
+        YearMonth current = YearMonth.now();
+        for (int offset = 0; offset < 12; offset++) {
+            YearMonth month = current.minusMonths(offset);
+            for (int i = 0; i < Math.min(4, expenseCategoryIds.size()); i++) {
+                BigDecimal amount = new BigDecimal(EXPENSE_CATEGORIES.get(i)[1]).multiply(BigDecimal.valueOf(1.1));
+                client.post("/api/v1/budgets", token, Map.of(
+                        "categoryId", expenseCategoryIds.get(i),
+                        "amount", amount.setScale(2, RoundingMode.HALF_UP),
+                        "month", month.getMonthValue(),
+                        "year", month.getYear()));
+            }
+        }
+    }
+
+    private void importHistory(String token, Random random) throws IOException, InterruptedException {
+        StringBuilder csv = new StringBuilder("date,description,amount,type,category,paymentMethod\n");
+        String[] paymentMethods = {"CREDIT_CARD", "DEBIT_CARD", "PIX", "CASH"};
+
+        LocalDate today = LocalDate.now();
+        YearMonth month = YearMonth.from(today).minusYears(config.years()).plusMonths(1);
+        while (!month.isAfter(YearMonth.from(today))) {
+            for (String[] income : INCOME_CATEGORIES) {
+                LocalDate date = month.atDay(5);
+                if (!date.isAfter(today) && (income[0].equals("Salário") || random.nextInt(3) == 0)) {
+                    csv.append(row(date, income[0], vary(income[1], random, 0.05), "INCOME", income[0], "PIX"));
+                }
+            }
+
+            for (int i = 0; i < config.transactionsPerMonth(); i++) {
+                String[] category = EXPENSE_CATEGORIES.get(random.nextInt(EXPENSE_CATEGORIES.size()));
+                LocalDate date = month.atDay(1 + random.nextInt(month.lengthOfMonth()));
+                if (date.isAfter(today)) {
+                    continue;
+                }
+                BigDecimal monthlyBudget = new BigDecimal(category[1]);
+                BigDecimal average = monthlyBudget.divide(BigDecimal.valueOf(8), 2, RoundingMode.HALF_UP);
+                csv.append(row(date, category[0] + " " + (i + 1), vary(average.toPlainString(), random, 0.6),
+                        "EXPENSE", category[0], paymentMethods[random.nextInt(paymentMethods.length)]));
+            }
+            month = month.plusMonths(1);
+        }
+
+        HttpResponse<String> response = client.postFile("/api/v1/transactions/imports", token, "seed.csv", csv.toString());
+        if (response.statusCode() != 202) {
+            throw new IllegalStateException("Falha ao iniciar importação: " + response.body());
+        }
+
+        String importId = client.json(response).get("importId").asString();
+        while (true) {
+            Thread.sleep(500);
+            JsonNode status = client.json(client.get("/api/v1/transactions/imports/" + importId, token));
+            if (!"PROCESSING".equals(status.get("status").asString())) {
+                if (status.get("failedRows").asInt() > 0) {
+                    System.out.printf("Importação %s: %d linhas com erro%n", importId, status.get("failedRows").asInt());
+                }
+                return;
+            }
+        }
+    }
+
+    private List<Long> categoryIds(String token) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode category : client.json(client.get("/api/v1/categories?type=EXPENSE", token))) {
+            ids.add(category.get("id").asLong());
+        }
+        return ids;
+    }
+
+    private static String row(LocalDate date, String description, BigDecimal amount, String type,
+                              String category, String paymentMethod) {
+        return date + "," + description + "," + amount.toPlainString() + "," + type + "," + category + "," + paymentMethod + "\n";
+    }
+
+    private static BigDecimal vary(String base, Random random, double spread) {
+        double factor = 1 + (random.nextDouble() * 2 - 1) * spread;
+        return new BigDecimal(base).multiply(BigDecimal.valueOf(factor)).setScale(2, RoundingMode.HALF_UP)
+                .max(new BigDecimal("1.00"));
+    }
+
+    record UserSession(int index, String token, List<Long> expenseCategoryIds) {
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.moneyflow.loadtest;
+
+import br.com.moneyflow.loadtest.LoadTestConfig.Operation;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Gerador de carga ponta a ponta contra uma instância local da API.
+ * Uso: suba a aplicação com o PostgreSQL local e rode
+ *   mvn -Ploadtest verify -Dloadtest.users=20 -Dloadtest.durationSeconds=120
+ * O relatório por endpoint (vazão e percentis de latência) é impresso e salvo em JSON.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ApiClient client = new ApiClient(config.baseUrl());
+
+        System.out.printf("Preparando %d usuários em %s...%n", config.users(), config.baseUrl());
+        List<DatasetSeeder.UserSession> sessions = new DatasetSeeder(client, config).seed();
+
+        if (!config.warmup().isZero()) {
+            System.out.printf("Aquecimento por %ds...%n", config.warmup().toSeconds());
+            run(client, config, sessions, config.warmup().toNanos(), null);
+        }
+
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        config.mix().keySet().forEach(operation -> recorders.put(operation, new LatencyRecorder()));
+
+        System.out.printf("Medindo por %ds com %d clientes concorrentes...%n",
+                config.duration().toSeconds(), config.concurrency());
+        long start = System.nanoTime();
+        run(client, config, sessions, config.duration().toNanos(), recorders);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        report(config, recorders, elapsedSeconds);
+    }
+
+    private static void run(ApiClient client, LoadTestConfig config, List<DatasetSeeder.UserSession> sessions,
+                            long durationNanos, Map<Operation, LatencyRecorder> recorders) {
+        long deadline = System.nanoTime() + durationNanos;
+        Operation[] wheel = weightedWheel(config.mix());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < config.concurrency(); worker++) {
+                executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = wheel[random.nextInt(wheel.length)];
+                        DatasetSeeder.UserSession session = sessions.get(random.nextInt(sessions.size()));
+
+                        long begin = System.nanoTime();
+                        boolean success;
+                        try {
+                            int status = execute(client, config, operation, session, random).statusCode();
+                            success = status >= 200 && status < 300;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            success = false;
+                        }
+
+                        if (recorders != null) {
+                            recorders.get(operation).record((System.nanoTime() - begin) / 1000, success);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private static HttpResponse<String> execute(ApiClient client, LoadTestConfig config, Operation operation,
+                                                DatasetSeeder.UserSession session, ThreadLocalRandom random)
+            throws Exception {
+        YearMonth month = YearMonth.now().minusMonths(random.nextInt(12));
+        String token = session.token();
+
+        return switch (operation) {
+            case TRANSACTIONS_LIST -> client.get("/api/v1/transactions?size=20&page=" + random.nextInt(5)
+                    + (random.nextBoolean() ? "&startDate=" + month.atDay(1) + "&endDate=" + month.atEndOfMonth() : ""),
+                    token);
+            case TRANSACTIONS_CREATE -> client.post("/api/v1/transactions", token, Map.of(
+                    "description", "Compra de carga",
+                    "amount", random.nextInt(1000, 20000) / 100.0,
+                    "date", LocalDate.now().minusDays(random.nextInt(60)).toString(),
+                    "type", "EXPENSE",
+                    "categoryId", session.expenseCategoryIds().get(random.nextInt(session.expenseCategoryIds().size())),
+                    "paymentMethod", "PIX"));
+            case DASHBOARD_SUMMARY -> client.get("/api/v1/dashboard/summary?month=" + month.getMonthValue()
+                    + "&year=" + month.getYear(), token);
+            case DASHBOARD_COMPARISON -> client.get("/api/v1/dashboard/comparison?month=" + month.getMonthValue()
+                    + "&year=" + month.getYear(), token);
+            case DASHBOARD_YEARLY -> client.get("/api/v1/dashboard/yearly-overview?year="
+                    + (LocalDate.now().getYear() - random.nextInt(config.years())), token);
+            case BUDGETS_STATUS -> client.get("/api/v1/budgets/monthly-status?month=" + month.getMonthValue()
+                    + "&year=" + month.getYear(), token);
+            case ALERTS -> client.get("/api/v1/alerts", token);
+        };
+    }
+
+    private static Operation[] weightedWheel(Map<Operation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Operation[] wheel = new Operation[total];
+        int position = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                wheel[position++] = entry.getKey();
+            }
+        }
+        return wheel;
+    }
+
+    private static void report(LoadTestConfig config, Map<Operation, LatencyRecorder> recorders,
+                               double elapsedSeconds) throws Exception {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("%n%-22s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operação", "requests", "erros", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms");
+
+        recorders.forEach((operation, recorder) -> {
+            Map<String, Object> summary = recorder.summary(elapsedSeconds);
+            endpoints.put(operation.key, summary);
+            System.out.printf("%-22s %9d %7d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.key, summary.get("requests"), summary.get("errors"),
+                    summary.get("throughputPerSecond"), summary.get("p50Ms"), summary.get("p90Ms"),
+                    summary.get("p95Ms"), summary.get("p99Ms"), summary.get("maxMs"));
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("baseUrl", config.baseUrl());
+        report.put("users", config.users());
+        report.put("concurrency", config.concurrency());
+        report.put("durationSeconds", Math.round(elapsedSeconds));
+        report.put("mix", config.mix().entrySet().stream()
+                .collect(LinkedHashMap::new, (map, e) -> map.put(e.getKey().key, e.getValue()), Map::putAll));
+        report.put("endpoints", endpoints);
+
+        Path path = Path.of(config.reportPath());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build().writeValue(path.toFile(), report);
+        System.out.printf("%nRelatório salvo em %s%n", path);
+    }
+}
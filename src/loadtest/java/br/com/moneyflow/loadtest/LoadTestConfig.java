@@ -0,0 +1,83 @@
+package br.com.moneyflow.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parâmetros do teste de carga, lidos de propriedades de sistema (-Dloadtest.*).
+ */
+record LoadTestConfig(
+        String baseUrl,
+        int users,
+        int years,
+        int transactionsPerMonth,
+        boolean seed,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        String reportPath) {
+
+    static final String PASSWORD = "loadtest-password";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.baseUrl", "http://localhost:8080"),
+                Integer.getInteger("loadtest.users", 10),
+                Integer.getInteger("loadtest.years", 3),
+                Integer.getInteger("loadtest.transactionsPerMonth", 60),
+                Boolean.parseBoolean(System.getProperty("loadtest.seed", "true")),
+                Integer.getInteger("loadtest.concurrency", 32),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 10)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 60)),
+                parseMix(System.getProperty("loadtest.mix",
+                        "transactions-list:30,transactions-create:5,dashboard-summary:20,dashboard-comparison:10," +
+                        "dashboard-yearly:10,budgets-status:15,alerts:10")),
+                System.getProperty("loadtest.report", "target/loadtest-report.json"));
+    }
+
+    static String email(int user) {
+        return "loadtest-user-" + user + "@moneyflow.test";
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix precisa de ao menos uma operação com peso > 0");
+        }
+        return mix;
+    }
+
+    enum Operation {
+        TRANSACTIONS_LIST("transactions-list"),
+        TRANSACTIONS_CREATE("transactions-create"),
+        DASHBOARD_SUMMARY("dashboard-summary"),
+        DASHBOARD_COMPARISON("dashboard-comparison"),
+        DASHBOARD_YEARLY("dashboard-yearly"),
+        BUDGETS_STATUS("budgets-status"),
+        ALERTS("alerts");
+
+        final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        static Operation fromKey(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equals(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Operação desconhecida em loadtest.mix: " + key);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.moneyflow.config;
+
+import br.com.moneyflow.model.entity.User;
+import br.com.moneyflow.repository.UserRepository;
+import br.com.moneyflow.service.MonthlyRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Verificação/reparo do rollup mensal na inicialização.
+ * Uso: --moneyflow.rollup.repair=verify (apenas relata divergências)
+ * ou --moneyflow.rollup.repair=rebuild (reconstrói usuários divergentes).
+ */
+@Component
+@ConditionalOnProperty(name = "moneyflow.rollup.repair")
+@RequiredArgsConstructor
+@Slf4j
+public class RollupMaintenanceRunner implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final MonthlyRollupService monthlyRollupService;
+
+    @Value("${moneyflow.rollup.repair}")
+    private String mode;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        boolean rebuild = "rebuild".equalsIgnoreCase(mode);
+        int usersWithDrift = 0;
+
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+        Page<User> page;
+        do {
+            page = userRepository.findAll(pageable);
+            for (User user : page) {
+                long drift = monthlyRollupService.verify(user.getId());
+                if (drift == 0) {
+                    continue;
+                }
+
+                usersWithDrift++;
+                log.warn("Rollup mensal divergente para usuário {}: {} períodos", user.getId(), drift);
+
+                if (rebuild) {
+                    monthlyRollupService.rebuild(user.getId());
+                }
+            }
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+
+        log.info("Verificação do rollup mensal concluída: {} usuário(s) com divergência{}",
+                usersWithDrift, rebuild ? " (reconstruídos)" : "");
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.moneyflow.config.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Saturação do pool HikariCP: fração de conexões em uso e threads aguardando conexão.
+ * Complementa as métricas hikaricp.* registradas pelo Spring Boot.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConnectionPoolMetrics implements MeterBinder {
+
+    private final DataSource dataSource;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        HikariDataSource hikari;
+        try {
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (Exception e) {
+            return;
+        }
+
+        Gauge.builder("moneyflow.db.pool.saturation", hikari, ConnectionPoolMetrics::saturation)
+                .description("Conexões ativas / tamanho máximo do pool")
+                .tag("pool", String.valueOf(hikari.getPoolName()))
+                .register(registry);
+
+        Gauge.builder("moneyflow.db.pool.waiting", hikari,
+                        ds -> ds.getHikariPoolMXBean() != null ? ds.getHikariPoolMXBean().getThreadsAwaitingConnection() : 0)
+                .description("Threads aguardando uma conexão do pool")
+                .tag("pool", String.valueOf(hikari.getPoolName()))
+                .register(registry);
+    }
+
+    private static double saturation(HikariDataSource dataSource) {
+        if (dataSource.getHikariPoolMXBean() == null || dataSource.getMaximumPoolSize() <= 0) {
+            return 0;
+        }
+        return (double) dataSource.getHikariPoolMXBean().getActiveConnections() / dataSource.getMaximumPoolSize();
+    }
+}
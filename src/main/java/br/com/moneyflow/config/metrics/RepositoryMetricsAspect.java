@@ -0,0 +1,89 @@
+package br.com.moneyflow.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Timer "moneyflow.repository.query" e distribuição "moneyflow.repository.rows" para os métodos
+ * declarados nos repositórios da aplicação. O número de linhas é o tamanho da lista/página
+ * retornada, 0 ou 1 para Optional e entidades, ou as linhas afetadas em consultas de escrita.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* br.com.moneyflow.repository.*.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+
+        try {
+            Object result = joinPoint.proceed();
+
+            long rows = returnsVoid(joinPoint) ? -1 : rowCount(result);
+            if (rows >= 0) {
+                DistributionSummary.builder("moneyflow.repository.rows")
+                        .description("Linhas retornadas ou afetadas por consulta")
+                        .tag("repository", repository)
+                        .tag("method", method)
+                        .register(meterRegistry)
+                        .record(rows);
+            }
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("moneyflow.repository.query")
+                    .description("Tempo de execução das consultas de repositório")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    private boolean returnsVoid(ProceedingJoinPoint joinPoint) {
+        return joinPoint.getSignature() instanceof MethodSignature signature
+                && signature.getReturnType() == void.class;
+    }
+
+    private long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Integer affected) {
+            return affected;
+        }
+        if (result instanceof Number || result instanceof Boolean) {
+            // agregados (COUNT, SUM) e existência: uma linha de resultado
+            return 1;
+        }
+        return result.getClass().getPackageName().startsWith("br.com.moneyflow") ? 1 : -1;
+    }
+}
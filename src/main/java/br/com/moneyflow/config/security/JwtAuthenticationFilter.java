@@ -1,6 +1,10 @@
 package br.com.moneyflow.config.security;
 
+import br.com.moneyflow.exception.authorization.InvalidTokenException;
 import br.com.moneyflow.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,16 +25,20 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        try {
-            String token = extractTokenFromRequest(request);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "anonymous";
+        String token = extractTokenFromRequest(request);
 
-            if (token != null && jwtService.validateToken(token)) {
-                Long userId = jwtService.getUserIdFromToken(token);
+        if (token != null) {
+            try {
+                Claims claims = jwtService.verifyToken(token);
+                Long userId = Long.parseLong(claims.getSubject());
 
                 UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
@@ -41,11 +49,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                outcome = "authenticated";
+            } catch (InvalidTokenException e) {
+                outcome = "rejected";
+                logger.debug("Token rejeitado: " + e.getMessage());
+            } catch (Exception e) {
+                outcome = "error";
+                logger.error("Não foi possível configurar autenticação do usuário: " + e.getMessage());
             }
-        } catch (Exception e) {
-            logger.error("Não foi possível configurar autenticação do usuário: " + e.getMessage());
         }
 
+        // mede apenas a autenticação, não o restante da cadeia
+        sample.stop(Timer.builder("moneyflow.security.jwt.filter")
+                .description("Tempo de autenticação JWT por requisição")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+
         filterChain.doFilter(request, response);
     }
 
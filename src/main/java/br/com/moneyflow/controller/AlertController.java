@@ -2,16 +2,23 @@ package br.com.moneyflow.controller;
 
 import br.com.moneyflow.config.security.CurrentUser;
 import br.com.moneyflow.model.dto.alert.*;
+import br.com.moneyflow.model.entity.AlertLevel;
+import br.com.moneyflow.model.entity.AlertType;
 import br.com.moneyflow.service.AlertService;
+import br.com.moneyflow.service.AlertStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -21,6 +28,7 @@ import java.util.List;
 public class AlertController {
 
     private final AlertService alertService;
+    private final AlertStreamService alertStreamService;
 
     @GetMapping
     @Operation(summary = "Listar alertas do usuário")
@@ -40,6 +48,14 @@ public class AlertController {
         return ResponseEntity.ok(new UnreadCountDTO(count));
     }
 
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Receber eventos de alertas em tempo real (SSE)",
+            description = "Envia unread-count ao conectar e alert-created/alert-read com o novo contador a cada mudança")
+    @ApiResponse(responseCode = "200", description = "Fluxo de eventos aberto")
+    public SseEmitter stream(@CurrentUser Long userId) {
+        return alertStreamService.subscribe(userId);
+    }
+
     @PatchMapping("/{id}/read")
     @Operation(summary = "Marcar alerta como lido")
     @ApiResponse(responseCode = "200", description = "Alerta marcado como lido")
@@ -70,6 +86,24 @@ public class AlertController {
         return ResponseEntity.ok(new MarkMultipleReadResponseDTO(updatedCount, message));
     }
 
+    @DeleteMapping
+    @Operation(summary = "Excluir alertas por filtro",
+            description = "Exclui em lote os alertas que atendem a todos os filtros; ao menos um filtro é obrigatório")
+    @ApiResponse(responseCode = "200", description = "Alertas excluídos")
+    public ResponseEntity<DeleteAlertsResponseDTO> deleteByFilter(
+            @CurrentUser Long userId,
+            @RequestParam(required = false) Boolean isRead,
+            @RequestParam(required = false) AlertLevel level,
+            @RequestParam(required = false) AlertType alertType,
+            @RequestParam(required = false) Integer month,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdBefore) {
+        AlertFilterDTO filters = new AlertFilterDTO(isRead, level, alertType, month, year, createdBefore);
+        int deletedCount = alertService.deleteAlerts(userId, filters);
+        String message = deletedCount + " alertas excluídos";
+        return ResponseEntity.ok(new DeleteAlertsResponseDTO(deletedCount, message));
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Excluir alerta")
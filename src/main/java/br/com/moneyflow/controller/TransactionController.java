@@ -3,32 +3,55 @@ package br.com.moneyflow.controller;
 import br.com.moneyflow.config.security.CurrentUser;
 import br.com.moneyflow.model.dto.transaction.*;
 import br.com.moneyflow.model.entity.TransactionType;
+import br.com.moneyflow.model.entity.PaymentMethod;
+import br.com.moneyflow.service.TransactionExportService;
+import br.com.moneyflow.service.TransactionImportService;
 import br.com.moneyflow.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/transactions")
 @Tag(name = "Transactions", description = "Gerenciamento de transações financeiras")
-@RequiredArgsConstructor
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionImportService transactionImportService;
+    private final TransactionExportService transactionExportService;
+    private final long exportTimeoutMs;
+
+    public TransactionController(TransactionService transactionService,
+                                 TransactionImportService transactionImportService,
+                                 TransactionExportService transactionExportService,
+                                 @Value("${moneyflow.export.timeout:10m}") Duration exportTimeout) {
+        this.transactionService = transactionService;
+        this.transactionImportService = transactionImportService;
+        this.transactionExportService = transactionExportService;
+        this.exportTimeoutMs = exportTimeout.toMillis();
+    }
 
 
     @PostMapping
@@ -46,6 +69,72 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Exportar transações em CSV ou NDJSON",
+            description = "Aceita os mesmos filtros da listagem. O arquivo é gerado em streaming.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Arquivo exportado"),
+            @ApiResponse(responseCode = "400", description = "Filtros inválidos")
+    })
+    public WebAsyncTask<Void> export(
+            @CurrentUser Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(defaultValue = "CSV") TransactionExportFormat format,
+            HttpServletResponse response) {
+
+        TransactionFilterDTO filters = new TransactionFilterDTO(startDate, endDate, categoryId, type);
+        StreamingResponseBody body = transactionExportService.export(userId, filters, format);
+
+        boolean csv = format == TransactionExportFormat.CSV;
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"transacoes." + (csv ? "csv" : "ndjson") + "\"");
+        response.setContentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8).toString()
+                : MediaType.APPLICATION_NDJSON_VALUE);
+
+        // Timeout próprio da exportação: o padrão global de requisições assíncronas continua valendo para o resto
+        return new WebAsyncTask<>(exportTimeoutMs, () -> {
+            body.writeTo(response.getOutputStream());
+            return null;
+        });
+    }
+
+    @PostMapping(value = "/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importar transações de arquivo CSV ou OFX",
+            description = "O arquivo é processado em segundo plano; acompanhe pelo endpoint de status. " +
+                    "As categorias padrão são usadas nas linhas sem categoria (sempre no OFX).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Importação iniciada"),
+            @ApiResponse(responseCode = "400", description = "Arquivo vazio ou cabeçalho inválido"),
+            @ApiResponse(responseCode = "404", description = "Categoria padrão não encontrada"),
+            @ApiResponse(responseCode = "429", description = "Limite de importações simultâneas atingido")
+    })
+    public ResponseEntity<TransactionImportStatusDTO> importTransactions(
+            @CurrentUser Long userId,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "CSV") TransactionImportFormat format,
+            @RequestParam(defaultValue = "DEBIT_CARD") PaymentMethod paymentMethod,
+            @RequestParam(required = false) Long incomeCategoryId,
+            @RequestParam(required = false) Long expenseCategoryId) {
+        TransactionImportStatusDTO response = transactionImportService.startImport(
+                userId, file, format, paymentMethod, incomeCategoryId, expenseCategoryId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/imports/{importId}")
+    @Operation(summary = "Consultar progresso e erros de uma importação")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Status da importação"),
+            @ApiResponse(responseCode = "404", description = "Importação não encontrada")
+    })
+    public ResponseEntity<TransactionImportStatusDTO> getImportStatus(
+            @CurrentUser Long userId,
+            @PathVariable String importId) {
+        return ResponseEntity.ok(transactionImportService.getImportStatus(userId, importId));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar transação por ID")
     @ApiResponses({
@@ -60,18 +149,32 @@ public class TransactionController {
     }
 
     @GetMapping
-    @Operation(summary = "Listar transações com filtros e paginação")
-    @ApiResponse(responseCode = "200", description = "Lista paginada de transações")
-    public ResponseEntity<Page<TransactionResponseDTO>> list(
+    @Operation(summary = "Listar transações com filtros e paginação",
+            description = "Informe 'cursor' (vazio na primeira página) para paginar por cursor em vez de offset. " +
+                    "Com includeTotal=false a contagem total não é calculada.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lista paginada de transações"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    public ResponseEntity<?> list(
             @CurrentUser Long userId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             @PageableDefault(size = 20, sort = "date", direction = Sort.Direction.DESC) Pageable pageable) {
 
         TransactionFilterDTO filters = new TransactionFilterDTO(startDate, endDate, categoryId, type);
-        Page<TransactionResponseDTO> response = transactionService.getTransactions(userId, filters, pageable);
+
+        if (cursor != null) {
+            TransactionCursorPageDTO response = transactionService.getTransactionsByCursor(
+                    userId, filters, cursor, pageable.getPageSize(), includeTotal);
+            return ResponseEntity.ok(response);
+        }
+
+        Page<TransactionResponseDTO> response = transactionService.getTransactions(userId, filters, pageable, includeTotal);
         return ResponseEntity.ok(response);
     }
 
@@ -79,7 +182,8 @@ public class TransactionController {
     @Operation(summary = "Atualizar transação")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Transação atualizada"),
-            @ApiResponse(responseCode = "404", description = "Transação não encontrada")
+            @ApiResponse(responseCode = "404", description = "Transação não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Transação arquivada")
     })
     public ResponseEntity<TransactionResponseDTO> update(
             @CurrentUser Long userId,
@@ -92,7 +196,10 @@ public class TransactionController {
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Excluir transação (soft delete)")
-    @ApiResponse(responseCode = "204", description = "Transação excluída")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Transação excluída"),
+            @ApiResponse(responseCode = "409", description = "Transação arquivada")
+    })
     public ResponseEntity<Void> delete(
             @CurrentUser Long userId,
             @PathVariable Long id) {
@@ -100,6 +207,19 @@ public class TransactionController {
         return ResponseEntity.noContent().build();
     }
 
+    @PatchMapping("/{id}/restore")
+    @Operation(summary = "Restaurar transação excluída")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transação restaurada"),
+            @ApiResponse(responseCode = "404", description = "Transação excluída não encontrada")
+    })
+    public ResponseEntity<TransactionResponseDTO> restore(
+            @CurrentUser Long userId,
+            @PathVariable Long id) {
+        TransactionResponseDTO response = transactionService.restoreTransaction(userId, id);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/summary")
     @Operation(summary = "Obter resumo de transações por período")
     public ResponseEntity<TransactionSummaryDTO> getSummary(
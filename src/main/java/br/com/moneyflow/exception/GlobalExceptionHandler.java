@@ -29,7 +29,8 @@ public class GlobalExceptionHandler {
         CategoryNotFoundException.class,
         TransactionNotFoundException.class,
         BudgetNotFoundException.class,
-        AlertNotFoundException.class
+        AlertNotFoundException.class,
+        TransactionImportNotFoundException.class
     })
     public ResponseEntity<ErrorResponseDTO> handleNotFound(
             RuntimeException ex,
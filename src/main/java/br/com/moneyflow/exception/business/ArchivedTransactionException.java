@@ -0,0 +1,12 @@
+package br.com.moneyflow.exception.business;
+
+import br.com.moneyflow.exception.base.BusinessRuleException;
+import org.springframework.http.HttpStatus;
+
+public class ArchivedTransactionException extends BusinessRuleException {
+    private static final String ERROR_CODE = "TRANSACTION_007";
+
+    public ArchivedTransactionException(String message) {
+        super(message, ERROR_CODE, HttpStatus.CONFLICT);
+    }
+}
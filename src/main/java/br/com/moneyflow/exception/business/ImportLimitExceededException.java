@@ -0,0 +1,12 @@
+package br.com.moneyflow.exception.business;
+
+import br.com.moneyflow.exception.base.BusinessRuleException;
+import org.springframework.http.HttpStatus;
+
+public class ImportLimitExceededException extends BusinessRuleException {
+    private static final String ERROR_CODE = "TRANSACTION_IMPORT_002";
+
+    public ImportLimitExceededException(String message) {
+        super(message, ERROR_CODE, HttpStatus.TOO_MANY_REQUESTS);
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.moneyflow.exception.resource;
+
+import br.com.moneyflow.exception.base.ResourceNotFoundException;
+
+public class TransactionImportNotFoundException extends ResourceNotFoundException {
+    private static final String ERROR_CODE = "TRANSACTION_IMPORT_001";
+
+    public TransactionImportNotFoundException(String message) {
+        super(message, ERROR_CODE);
+    }
+}
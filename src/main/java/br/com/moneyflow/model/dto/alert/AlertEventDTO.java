@@ -0,0 +1,13 @@
+package br.com.moneyflow.model.dto.alert;
+
+import br.com.moneyflow.model.entity.AlertLevel;
+
+import java.util.List;
+
+public record AlertEventDTO(
+        Long budgetId,
+        AlertLevel level,
+        List<Long> alertIds,
+        Long unreadCount
+) {
+}
@@ -0,0 +1,19 @@
+package br.com.moneyflow.model.dto.alert;
+
+import br.com.moneyflow.model.entity.AlertLevel;
+import br.com.moneyflow.model.entity.AlertType;
+
+import java.time.LocalDate;
+
+public record AlertFilterDTO(Boolean read,
+                             AlertLevel level,
+                             AlertType alertType,
+                             Integer month,
+                             Integer year,
+                             LocalDate createdBefore) {
+
+    public boolean isEmpty() {
+        return read == null && level == null && alertType == null
+                && month == null && year == null && createdBefore == null;
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.moneyflow.model.dto.alert;
+
+public record DeleteAlertsResponseDTO(
+        Integer deletedCount,
+        String message
+) {
+}
@@ -1,5 +1,6 @@
 package br.com.moneyflow.model.dto.category;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 public record CategoryWithCountDTO(Long id,
@@ -10,5 +11,6 @@ public record CategoryWithCountDTO(Long id,
                                    String icon,
                                    LocalDateTime createdAt,
                                    LocalDateTime updatedAt,
-                                   Long transactionCount) {
+                                   Long transactionCount,
+                                   LocalDate lastUsedDate) {
 }
@@ -9,6 +9,7 @@ public record MonthlyComparisonDTO(
         VariationDTO expenseVariation,
         VariationDTO balanceVariation,
         List<CategoryVariationDTO> categoriesWithBiggestIncrease,
-        List<CategoryVariationDTO> categoriesWithBiggestDecrease
+        List<CategoryVariationDTO> categoriesWithBiggestDecrease,
+        Boolean partial
 ) {
 }
@@ -17,6 +17,7 @@ public record MonthlySummaryDTO(
         List<CategoryExpenseDTO> expensesByCategory,
         List<BudgetStatusDTO> budgetStatus,
         Long activeAlertsCount,
-        List<TransactionResponseDTO> recentTransactions
+        List<TransactionResponseDTO> recentTransactions,
+        Boolean partial
 ) {
 }
@@ -0,0 +1,7 @@
+package br.com.moneyflow.model.dto.projection;
+
+public interface BudgetAlertProjection extends BudgetStatusProjection {
+    Long getUserId();
+    Integer getMonth();
+    Integer getYear();
+}
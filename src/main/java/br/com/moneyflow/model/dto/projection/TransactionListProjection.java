@@ -0,0 +1,28 @@
+package br.com.moneyflow.model.dto.projection;
+
+import br.com.moneyflow.model.entity.CategoryType;
+import br.com.moneyflow.model.entity.PaymentMethod;
+import br.com.moneyflow.model.entity.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Linha de listagem de transações com as colunas da categoria já trazidas no JOIN,
+ * evitando a carga LAZY da categoria por item.
+ */
+public interface TransactionListProjection {
+    Long getId();
+    String getDescription();
+    BigDecimal getAmount();
+    LocalDate getDate();
+    TransactionType getType();
+    Long getCategoryId();
+    String getCategoryName();
+    CategoryType getCategoryType();
+    PaymentMethod getPaymentMethod();
+    String getNotes();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
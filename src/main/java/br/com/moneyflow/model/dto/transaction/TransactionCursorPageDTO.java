@@ -0,0 +1,11 @@
+package br.com.moneyflow.model.dto.transaction;
+
+import java.util.List;
+
+public record TransactionCursorPageDTO(
+        List<TransactionResponseDTO> content,
+        Integer size,
+        Boolean hasNext,
+        String nextCursor,
+        Long totalElements) {
+}
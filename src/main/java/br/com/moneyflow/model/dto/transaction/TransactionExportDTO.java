@@ -0,0 +1,18 @@
+package br.com.moneyflow.model.dto.transaction;
+
+import br.com.moneyflow.model.entity.PaymentMethod;
+import br.com.moneyflow.model.entity.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record TransactionExportDTO(
+        Long id,
+        LocalDate date,
+        String description,
+        BigDecimal amount,
+        TransactionType type,
+        String category,
+        PaymentMethod paymentMethod,
+        String notes) {
+}
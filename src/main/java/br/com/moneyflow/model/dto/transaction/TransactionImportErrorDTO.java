@@ -0,0 +1,6 @@
+package br.com.moneyflow.model.dto.transaction;
+
+public record TransactionImportErrorDTO(
+        Integer row,
+        String message) {
+}
@@ -0,0 +1,7 @@
+package br.com.moneyflow.model.dto.transaction;
+
+public enum TransactionImportStatus {
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
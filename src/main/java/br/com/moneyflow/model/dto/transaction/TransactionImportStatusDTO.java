@@ -0,0 +1,16 @@
+package br.com.moneyflow.model.dto.transaction;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TransactionImportStatusDTO(
+        String importId,
+        TransactionImportFormat format,
+        TransactionImportStatus status,
+        Integer processedRows,
+        Integer importedRows,
+        Integer failedRows,
+        List<TransactionImportErrorDTO> errors,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt) {
+}
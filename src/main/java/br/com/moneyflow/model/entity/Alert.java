@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class Alert {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alert_id_seq")
+    @SequenceGenerator(name = "alert_id_seq", sequenceName = "alerts_id_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
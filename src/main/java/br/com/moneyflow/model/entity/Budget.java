@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class Budget {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "budget_id_seq")
+    @SequenceGenerator(name = "budget_id_seq", sequenceName = "budgets_id_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -3,6 +3,7 @@ package br.com.moneyflow.model.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -15,7 +16,8 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Category {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_id_seq")
+    @SequenceGenerator(name = "category_id_seq", sequenceName = "categories_id_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -51,6 +53,13 @@ public class Category {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // Contadores de uso mantidos via SQL por MonthlyRollupService; somente leitura na entidade
+    @Column(name = "transaction_count", nullable = false, insertable = false, updatable = false)
+    private Long transactionCount = 0L;
+
+    @Column(name = "last_used_date", insertable = false, updatable = false)
+    private LocalDate lastUsedDate;
+
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
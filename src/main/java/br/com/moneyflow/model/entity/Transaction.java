@@ -2,6 +2,7 @@ package br.com.moneyflow.model.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.PartitionKey;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -17,7 +18,8 @@ import java.time.LocalDateTime;
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_id_seq")
+    @SequenceGenerator(name = "transaction_id_seq", sequenceName = "transactions_id_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -29,7 +31,10 @@ public class Transaction {
     @Column(nullable = false, precision = 15, scale = 2)
     private BigDecimal amount;
 
+    // Chave de partição de transactions: UPDATE e DELETE do Hibernate filtram por id e date,
+    // então o PostgreSQL acessa apenas a partição do mês em vez de sondar todas
     @Setter
+    @PartitionKey
     @Column(nullable = false)
     private LocalDate date;
 
@@ -0,0 +1,48 @@
+package br.com.moneyflow.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Travas consultivas do PostgreSQL para tarefas agendadas que devem rodar em um único nó.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdvisoryLockRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Executa a tarefa somente se a trava consultiva estiver livre; retorna vazio caso contrário.
+     * A trava é de sessão e fica presa à conexão mantida durante a tarefa;
+     * as demais instruções usam outras conexões do pool.
+     */
+    public <T> Optional<T> runWithAdvisoryLock(long lockKey, Supplier<T> task) {
+        return jdbcTemplate.execute((ConnectionCallback<Optional<T>>) connection -> {
+            try (PreparedStatement lock = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                lock.setLong(1, lockKey);
+                try (ResultSet rs = lock.executeQuery()) {
+                    if (!rs.next() || !rs.getBoolean(1)) {
+                        return Optional.empty();
+                    }
+                }
+            }
+
+            try {
+                return Optional.ofNullable(task.get());
+            } finally {
+                try (PreparedStatement unlock = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+                    unlock.setLong(1, lockKey);
+                    unlock.execute();
+                }
+            }
+        });
+    }
+}
@@ -2,12 +2,14 @@ package br.com.moneyflow.repository;
 
 import br.com.moneyflow.model.entity.Alert;
 import br.com.moneyflow.model.entity.AlertLevel;
+import br.com.moneyflow.model.entity.AlertType;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -34,6 +36,61 @@ public interface AlertRepository extends JpaRepository<Alert, Long> {
             @Param("budgetId") Long budgetId,
             @Param("level") AlertLevel level);
 
+    /**
+     * Cria o alerta ativo do orçamento ou substitui o existente quando o nível muda.
+     * Com o mesmo nível o alerta é mantido como está (inclusive o estado de leitura) e nada é alterado.
+     * Retorna 1 quando uma linha foi inserida ou atualizada e 0 caso contrário.
+     * O id vem do DEFAULT nextval da coluna, que consome um bloco inteiro da sequence pooled (50 ids)
+     * sempre que uma linha candidata é gerada, mesmo que o ON CONFLICT a descarte. Por isso a linha só é
+     * gerada quando não existe alerta ativo do mesmo nível: reavaliações sem mudança (o caso comum)
+     * não consomem ids; apenas criações e trocas de nível consomem um bloco.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO alerts (message, level, alert_type, budget_amount, current_amount, month, year,
+                                category_id, budget_id, user_id, read, created_at)
+            SELECT :message, :level, :alertType, :budgetAmount, :currentAmount, :month, :year,
+                   :categoryId, :budgetId, :userId, false, :createdAt
+            WHERE NOT EXISTS (SELECT 1 FROM alerts
+                              WHERE budget_id = :budgetId AND level = :level
+                              AND level IN ('WARNING', 'CRITICAL'))
+            ON CONFLICT (budget_id) WHERE budget_id IS NOT NULL AND level IN ('WARNING', 'CRITICAL')
+            DO UPDATE SET message = EXCLUDED.message,
+                          level = EXCLUDED.level,
+                          alert_type = EXCLUDED.alert_type,
+                          budget_amount = EXCLUDED.budget_amount,
+                          current_amount = EXCLUDED.current_amount,
+                          read = false,
+                          read_at = NULL,
+                          created_at = EXCLUDED.created_at
+            WHERE alerts.level <> EXCLUDED.level
+            """, nativeQuery = true)
+    int upsertActiveBudgetAlert(
+            @Param("userId") Long userId,
+            @Param("budgetId") Long budgetId,
+            @Param("categoryId") Long categoryId,
+            @Param("level") String level,
+            @Param("alertType") String alertType,
+            @Param("message") String message,
+            @Param("budgetAmount") BigDecimal budgetAmount,
+            @Param("currentAmount") BigDecimal currentAmount,
+            @Param("month") Integer month,
+            @Param("year") Integer year,
+            @Param("createdAt") LocalDateTime createdAt
+    );
+
+    @Modifying
+    @Transactional
+    @Query("""
+            DELETE FROM Alert a
+            WHERE a.user.id = :userId
+            AND a.budget.id = :budgetId
+            AND a.level IN (br.com.moneyflow.model.entity.AlertLevel.WARNING,
+                            br.com.moneyflow.model.entity.AlertLevel.CRITICAL)
+            """)
+    int deleteActiveBudgetAlerts(@Param("userId") Long userId, @Param("budgetId") Long budgetId);
+
     @Query("""
             SELECT a FROM Alert a
             WHERE a.user.id = :userId
@@ -83,6 +140,7 @@ public interface AlertRepository extends JpaRepository<Alert, Long> {
             SET a.read = true, a.readAt = :readAt
             WHERE a.user.id = :userId
             AND a.id IN :alertIds
+            AND a.read = false
             """)
     int markAlertsAsRead(
             @Param("userId") Long userId,
@@ -90,6 +148,38 @@ public interface AlertRepository extends JpaRepository<Alert, Long> {
             @Param("readAt") LocalDateTime readAt
     );
 
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE Alert a
+            SET a.read = true, a.readAt = :readAt
+            WHERE a.user.id = :userId
+            AND a.read = false
+            """)
+    int markAllAsRead(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            DELETE FROM Alert a
+            WHERE a.user.id = :userId
+            AND (:read IS NULL OR a.read = :read)
+            AND (:level IS NULL OR a.level = :level)
+            AND (:alertType IS NULL OR a.alertType = :alertType)
+            AND (:month IS NULL OR a.month = :month)
+            AND (:year IS NULL OR a.year = :year)
+            AND (:createdBefore IS NULL OR a.createdAt < :createdBefore)
+            """)
+    int deleteByFilters(
+            @Param("userId") Long userId,
+            @Param("read") Boolean read,
+            @Param("level") AlertLevel level,
+            @Param("alertType") AlertType alertType,
+            @Param("month") Integer month,
+            @Param("year") Integer year,
+            @Param("createdBefore") LocalDateTime createdBefore
+    );
+
     @Query("SELECT COUNT(a) FROM Alert a WHERE a.user.id = :userId AND a.id IN :alertIds")
     long countByUserIdAndIdIn(@Param("userId") Long userId, @Param("alertIds") List<Long> alertIds);
 }
@@ -1,5 +1,6 @@
 package br.com.moneyflow.repository;
 
+import br.com.moneyflow.model.dto.projection.BudgetAlertProjection;
 import br.com.moneyflow.model.dto.projection.BudgetStatusProjection;
 import br.com.moneyflow.model.entity.Budget;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -39,19 +40,17 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
             "b.amount as budgetAmount, " +
             "c.id as categoryId, " +
             "c.name as categoryName, " +
-            "COALESCE(SUM(t.amount), 0) as spentAmount " +
+            "COALESCE(m.totalAmount, 0) as spentAmount " +
             "FROM Budget b " +
             "JOIN b.category c " +
-            "LEFT JOIN Transaction t ON t.category.id = c.id " +
-            "  AND t.type = 'EXPENSE' " +
-            "  AND t.deleted = false " +
-            "  AND YEAR(t.date) = b.year " +
-            "  AND MONTH(t.date) = b.month " +
-            "  AND t.user.id = b.user.id " +
+            "LEFT JOIN MonthlyCategoryTotal m ON m.categoryId = c.id " +
+            "  AND m.userId = b.user.id " +
+            "  AND m.year = b.year " +
+            "  AND m.month = b.month " +
+            "  AND m.type = 'EXPENSE' " +
             "WHERE b.user.id = :userId " +
             "AND b.month = :month " +
-            "AND b.year = :year " +
-            "GROUP BY b.id, b.amount, c.id, c.name")
+            "AND b.year = :year")
     List<BudgetStatusProjection> findBudgetStatusByUserAndPeriod(
             @Param("userId") Long userId,
             @Param("month") Integer month,
@@ -63,20 +62,70 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
             "b.amount as budgetAmount, " +
             "c.id as categoryId, " +
             "c.name as categoryName, " +
-            "COALESCE(SUM(t.amount), 0) as spentAmount " +
+            "COALESCE(m.totalAmount, 0) as spentAmount " +
             "FROM Budget b " +
             "JOIN b.category c " +
-            "LEFT JOIN Transaction t ON t.category.id = c.id " +
-            "  AND t.type = 'EXPENSE' " +
-            "  AND t.deleted = false " +
-            "  AND YEAR(t.date) = b.year " +
-            "  AND MONTH(t.date) = b.month " +
-            "  AND t.user.id = b.user.id " +
+            "LEFT JOIN MonthlyCategoryTotal m ON m.categoryId = c.id " +
+            "  AND m.userId = b.user.id " +
+            "  AND m.year = b.year " +
+            "  AND m.month = b.month " +
+            "  AND m.type = 'EXPENSE' " +
             "WHERE b.id = :budgetId " +
-            "AND b.user.id = :userId " +
-            "GROUP BY b.id, b.amount, c.id, c.name")
+            "AND b.user.id = :userId")
     Optional<BudgetStatusProjection> findBudgetStatusByIdAndUserId(
             @Param("budgetId") Long budgetId,
             @Param("userId") Long userId
     );
+
+    @Query("SELECT " +
+            "b.id as id, " +
+            "b.user.id as userId, " +
+            "b.month as month, " +
+            "b.year as year, " +
+            "b.amount as budgetAmount, " +
+            "c.id as categoryId, " +
+            "c.name as categoryName, " +
+            "COALESCE(m.totalAmount, 0) as spentAmount " +
+            "FROM Budget b " +
+            "JOIN b.category c " +
+            "LEFT JOIN MonthlyCategoryTotal m ON m.categoryId = c.id " +
+            "  AND m.userId = b.user.id " +
+            "  AND m.year = b.year " +
+            "  AND m.month = b.month " +
+            "  AND m.type = 'EXPENSE' " +
+            "WHERE b.user.id = :userId " +
+            "AND c.id = :categoryId " +
+            "AND b.month = :month " +
+            "AND b.year = :year")
+    Optional<BudgetAlertProjection> findBudgetAlertStatus(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+
+    @Query("SELECT " +
+            "b.id as id, " +
+            "b.user.id as userId, " +
+            "b.month as month, " +
+            "b.year as year, " +
+            "b.amount as budgetAmount, " +
+            "c.id as categoryId, " +
+            "c.name as categoryName, " +
+            "COALESCE(m.totalAmount, 0) as spentAmount " +
+            "FROM Budget b " +
+            "JOIN b.category c " +
+            "LEFT JOIN MonthlyCategoryTotal m ON m.categoryId = c.id " +
+            "  AND m.userId = b.user.id " +
+            "  AND m.year = b.year " +
+            "  AND m.month = b.month " +
+            "  AND m.type = 'EXPENSE' " +
+            "WHERE b.user.id = :userId " +
+            "AND b.month = :month " +
+            "AND b.year = :year")
+    List<BudgetAlertProjection> findBudgetAlertStatusByUserAndPeriod(
+            @Param("userId") Long userId,
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
 }
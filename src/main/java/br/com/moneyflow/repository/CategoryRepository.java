@@ -3,9 +3,11 @@ package br.com.moneyflow.repository;
 import br.com.moneyflow.model.entity.Category;
 import br.com.moneyflow.model.entity.CategoryType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,26 +23,65 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     Long countByUserId(Long userId);
 
-    @Query("SELECT c, COUNT(t.id) as transactionCount " +
+    @Query("SELECT c, c.transactionCount " +
             "FROM Category c " +
-            "LEFT JOIN Transaction t ON t.category.id = c.id " +
-            "WHERE c.user.id = :userId " +
-            "GROUP BY c.id")
+            "WHERE c.user.id = :userId")
     List<Object[]> findAllWithTransactionCountByUserId(@Param("userId") Long userId);
 
     @Query("SELECT c FROM Category c " +
             "WHERE c.user.id = :userId " +
-            "AND c.id NOT IN (" +
-            "    SELECT DISTINCT t.category.id FROM Transaction t WHERE t.deleted = false" +
-            ")")
+            "AND c.transactionCount = 0")
     List<Category> findCategoriesWithoutTransactions(@Param("userId") Long userId);
 
-    @Query("SELECT c.id, c.name, COUNT(t.id) as usageCount " +
+    @Query("SELECT c.id, c.name, c.transactionCount as usageCount " +
             "FROM Category c " +
-            "JOIN Transaction t ON t.category.id = c.id " +
-            "WHERE c.user.id = :userId AND t.deleted = false " +
-            "GROUP BY c.id, c.name " +
-            "ORDER BY usageCount DESC " +
+            "WHERE c.user.id = :userId AND c.transactionCount > 0 " +
+            "ORDER BY c.transactionCount DESC, c.lastUsedDate DESC " +
             "LIMIT 5")
     List<Object[]> findTopCategoriesByUsage(@Param("userId") Long userId);
+
+    // Contadores de uso: GREATEST ignora NULL, então a primeira transação define last_used_date
+    @Modifying
+    @Query(value = "UPDATE categories SET " +
+            "transaction_count = transaction_count + :count, " +
+            "last_used_date = GREATEST(last_used_date, :lastDate) " +
+            "WHERE id = :categoryId",
+            nativeQuery = true)
+    int incrementUsage(
+            @Param("categoryId") Long categoryId,
+            @Param("count") long count,
+            @Param("lastDate") LocalDate lastDate
+    );
+
+    // last_used_date só é recalculado (pelo índice de transações ativas por categoria e data)
+    // quando a transação removida pode ser a mais recente
+    @Modifying
+    @Query(value = "UPDATE categories SET " +
+            "transaction_count = GREATEST(transaction_count - 1, 0), " +
+            "last_used_date = CASE " +
+            "    WHEN transaction_count <= 1 THEN NULL " +
+            "    WHEN last_used_date > :date THEN last_used_date " +
+            "    ELSE (SELECT MAX(t.date) FROM transaction_history t " +
+            "          WHERE t.category_id = :categoryId AND t.deleted = false) " +
+            "END " +
+            "WHERE id = :categoryId",
+            nativeQuery = true)
+    int decrementUsage(
+            @Param("categoryId") Long categoryId,
+            @Param("date") LocalDate date
+    );
+
+    @Modifying
+    @Query(value = "UPDATE categories c SET " +
+            "transaction_count = COALESCE(u.transaction_count, 0), " +
+            "last_used_date = u.last_used_date " +
+            "FROM categories base LEFT JOIN (" +
+            "    SELECT category_id, COUNT(*) AS transaction_count, MAX(date) AS last_used_date " +
+            "    FROM transaction_history " +
+            "    WHERE user_id = :userId AND deleted = false " +
+            "    GROUP BY category_id" +
+            ") u ON u.category_id = base.id " +
+            "WHERE c.id = base.id AND base.user_id = :userId",
+            nativeQuery = true)
+    int rebuildUsageByUserId(@Param("userId") Long userId);
 }
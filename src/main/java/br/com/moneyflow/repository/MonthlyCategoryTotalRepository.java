@@ -0,0 +1,137 @@
+package br.com.moneyflow.repository;
+
+import br.com.moneyflow.model.entity.MonthlyCategoryTotal;
+import br.com.moneyflow.model.entity.TransactionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface MonthlyCategoryTotalRepository extends JpaRepository<MonthlyCategoryTotal, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_category_totals " +
+            "(user_id, category_id, year, month, type, total_amount, transaction_count, updated_at) " +
+            "VALUES (:userId, :categoryId, :year, :month, :type, :amount, :count, NOW()) " +
+            "ON CONFLICT (user_id, year, month, category_id, type) DO UPDATE SET " +
+            "total_amount = monthly_category_totals.total_amount + EXCLUDED.total_amount, " +
+            "transaction_count = monthly_category_totals.transaction_count + EXCLUDED.transaction_count, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int applyDelta(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("year") int year,
+            @Param("month") int month,
+            @Param("type") String type,
+            @Param("amount") BigDecimal amount,
+            @Param("count") long count
+    );
+
+    @Query("SELECT m.type as type, COALESCE(SUM(m.totalAmount), 0) as total " +
+            "FROM MonthlyCategoryTotal m " +
+            "WHERE m.userId = :userId " +
+            "AND m.year = :year " +
+            "AND m.month = :month " +
+            "GROUP BY m.type")
+    List<TypeTotalProjection> findTotalsByPeriod(
+            @Param("userId") Long userId,
+            @Param("year") Integer year,
+            @Param("month") Integer month
+    );
+
+    @Query("SELECT m.year as year, m.month as month, m.type as type, SUM(m.totalAmount) as total " +
+            "FROM MonthlyCategoryTotal m " +
+            "WHERE m.userId = :userId " +
+            "AND m.year = :year " +
+            "GROUP BY m.year, m.month, m.type")
+    List<TransactionRepository.MonthlyComparisonProjection> findMonthlyTotalsByYear(
+            @Param("userId") Long userId,
+            @Param("year") Integer year
+    );
+
+    @Query("SELECT c.id as categoryId, c.name as categoryName, m.totalAmount as totalAmount, m.transactionCount as transactionCount " +
+            "FROM MonthlyCategoryTotal m " +
+            "JOIN Category c ON c.id = m.categoryId " +
+            "WHERE m.userId = :userId " +
+            "AND m.type = :type " +
+            "AND m.year = :year " +
+            "AND m.month = :month " +
+            "AND m.transactionCount > 0 " +
+            "ORDER BY m.totalAmount DESC")
+    List<TransactionRepository.CategoryExpenseProjection> findCategoryTotalsByPeriod(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("year") Integer year,
+            @Param("month") Integer month
+    );
+
+    @Query("SELECT COALESCE(SUM(m.totalAmount), 0) " +
+            "FROM MonthlyCategoryTotal m " +
+            "WHERE m.userId = :userId " +
+            "AND m.categoryId = :categoryId " +
+            "AND m.type = 'EXPENSE' " +
+            "AND m.year = :year " +
+            "AND m.month = :month")
+    BigDecimal sumExpensesByCategoryAndMonth(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("year") int year,
+            @Param("month") int month
+    );
+
+    @Query("SELECT COALESCE(SUM(m.transactionCount), 0) " +
+            "FROM MonthlyCategoryTotal m " +
+            "WHERE m.userId = :userId " +
+            "AND m.categoryId = :categoryId " +
+            "AND m.year = :year " +
+            "AND m.month = :month")
+    Long countByCategoryAndMonth(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("year") int year,
+            @Param("month") int month
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM monthly_category_totals WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_category_totals " +
+            "(user_id, category_id, year, month, type, total_amount, transaction_count, updated_at) " +
+            "SELECT t.user_id, t.category_id, " +
+            "EXTRACT(YEAR FROM t.date)::INTEGER, EXTRACT(MONTH FROM t.date)::INTEGER, " +
+            "t.type, SUM(t.amount), COUNT(*), NOW() " +
+            "FROM transaction_history t " +
+            "WHERE t.user_id = :userId AND t.deleted = false " +
+            "GROUP BY t.user_id, t.category_id, EXTRACT(YEAR FROM t.date), EXTRACT(MONTH FROM t.date), t.type",
+            nativeQuery = true)
+    int rebuildByUserId(@Param("userId") Long userId);
+
+    @Query(value = "SELECT COUNT(*) FROM (" +
+            "SELECT 1 FROM (" +
+            "    SELECT category_id, year, month, type, total_amount, transaction_count " +
+            "    FROM monthly_category_totals " +
+            "    WHERE user_id = :userId AND (transaction_count <> 0 OR total_amount <> 0)" +
+            ") r FULL OUTER JOIN (" +
+            "    SELECT category_id, EXTRACT(YEAR FROM date)::INTEGER AS year, EXTRACT(MONTH FROM date)::INTEGER AS month, " +
+            "    type, SUM(amount) AS total_amount, COUNT(*) AS transaction_count " +
+            "    FROM transaction_history " +
+            "    WHERE user_id = :userId AND deleted = false " +
+            "    GROUP BY category_id, EXTRACT(YEAR FROM date), EXTRACT(MONTH FROM date), type" +
+            ") a ON r.category_id = a.category_id AND r.year = a.year AND r.month = a.month AND r.type = a.type " +
+            "WHERE r.category_id IS NULL OR a.category_id IS NULL " +
+            "OR r.total_amount <> a.total_amount OR r.transaction_count <> a.transaction_count" +
+            ") drift",
+            nativeQuery = true)
+    long countDriftByUserId(@Param("userId") Long userId);
+
+    interface TypeTotalProjection {
+        TransactionType getType();
+        BigDecimal getTotal();
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.moneyflow.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Operações de retenção via JDBC: DELETEs limitados por lote, cada um em sua própria
+ * transação curta (autocommit).
+ */
+@Repository
+@RequiredArgsConstructor
+public class RetentionRepository {
+
+    private static final String DELETE_READ_ALERTS_SQL =
+            "DELETE FROM alerts WHERE id IN (" +
+            "SELECT id FROM alerts WHERE user_id = ANY(?) AND read = true AND created_at < ? LIMIT ?)";
+
+    private static final String DELETE_SOFT_DELETED_TRANSACTIONS_SQL =
+            "DELETE FROM transactions WHERE (id, date) IN (" +
+            "SELECT id, date FROM transactions WHERE user_id = ANY(?) AND deleted = true AND updated_at < ? LIMIT ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> findUserIdsAfter(long lastUserId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?", Long.class, lastUserId, limit);
+    }
+
+    public int deleteReadAlerts(List<Long> userIds, LocalDateTime cutoff, int limit) {
+        return deleteBatch(DELETE_READ_ALERTS_SQL, userIds, cutoff, limit);
+    }
+
+    /**
+     * Transações excluídas logicamente têm updated_at igual ao momento da exclusão (ou da última edição).
+     * O DELETE casa pela chave primária completa (id, date), o que permite ao PostgreSQL
+     * podar em tempo de execução as partições que não contêm a data de cada linha.
+     */
+    public int deleteSoftDeletedTransactions(List<Long> userIds, LocalDateTime cutoff, int limit) {
+        return deleteBatch(DELETE_SOFT_DELETED_TRANSACTIONS_SQL, userIds, cutoff, limit);
+    }
+
+    private int deleteBatch(String sql, List<Long> userIds, LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            Array ids = connection.createArrayOf("bigint", userIds.toArray());
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setArray(1, ids);
+                ps.setTimestamp(2, Timestamp.valueOf(cutoff));
+                ps.setInt(3, limit);
+                return ps.executeUpdate();
+            } finally {
+                ids.free();
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.moneyflow.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Movimentação de transações de anos encerrados para transactions_archive via JDBC.
+ * Cada lote é um único comando (DELETE ... RETURNING alimentando o INSERT), então uma
+ * transação nunca fica visível nas duas tabelas nem some de ambas.
+ * O DELETE filtra pela data de corte e casa pela chave primária completa (id, date), então só as
+ * partições anteriores ao corte são acessadas.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionArchiveRepository {
+
+    private static final String MOVE_BATCH_SQL =
+            "WITH moved AS (" +
+            "    DELETE FROM transactions WHERE date < ? AND (id, date) IN (" +
+            "        SELECT id, date FROM transactions WHERE user_id = ANY(?) AND deleted = false AND date < ? LIMIT ?)" +
+            "    RETURNING id, description, amount, date, type, payment_method, notes, " +
+            "    category_id, user_id, created_at, updated_at" +
+            ") " +
+            "INSERT INTO transactions_archive (id, description, amount, date, type, payment_method, notes, " +
+            "category_id, user_id, created_at, updated_at) " +
+            "SELECT id, description, amount, date, type, payment_method, notes, " +
+            "category_id, user_id, created_at, updated_at FROM moved";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<LocalDate> findWatermark() {
+        return jdbcTemplate.queryForList(
+                        "SELECT archived_before FROM transaction_archive_watermark WHERE id = 1", Date.class)
+                .stream()
+                .findFirst()
+                .map(Date::toLocalDate);
+    }
+
+    /**
+     * A marca d'água só avança: um valor menor que o atual é ignorado.
+     */
+    public void advanceWatermark(LocalDate archivedBefore) {
+        jdbcTemplate.update(
+                "INSERT INTO transaction_archive_watermark (id, archived_before, updated_at) VALUES (1, ?, NOW()) " +
+                "ON CONFLICT (id) DO UPDATE SET archived_before = EXCLUDED.archived_before, updated_at = NOW() " +
+                "WHERE transaction_archive_watermark.archived_before < EXCLUDED.archived_before",
+                Date.valueOf(archivedBefore));
+    }
+
+    public List<Long> findUserIdsAfter(long lastUserId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?", Long.class, lastUserId, limit);
+    }
+
+    public int moveBatch(List<Long> userIds, LocalDate archivedBefore, int limit) {
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            Array ids = connection.createArrayOf("bigint", userIds.toArray());
+            try (PreparedStatement ps = connection.prepareStatement(MOVE_BATCH_SQL)) {
+                ps.setDate(1, Date.valueOf(archivedBefore));
+                ps.setArray(2, ids);
+                ps.setDate(3, Date.valueOf(archivedBefore));
+                ps.setInt(4, limit);
+                return ps.executeUpdate();
+            } finally {
+                ids.free();
+            }
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.moneyflow.repository;
+
+import br.com.moneyflow.model.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Inserção em lote de transações via JDBC, usada pela importação de arquivos.
+ * O INSERT é feito direto para não manter milhares de entidades no contexto de persistência.
+ * Os ids são reservados em blocos da sequence, como no otimizador pooled do Hibernate: com incremento 50,
+ * cada nextval reserva os 50 ids que terminam no valor retornado. Depender do DEFAULT da coluna
+ * consumiria um bloco inteiro por linha.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionBatchRepository {
+
+    // Deve coincidir com o INCREMENT BY de transactions_id_seq e o allocationSize de Transaction
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO transactions (id, description, amount, date, type, payment_method, notes, " +
+            "category_id, user_id, created_at, updated_at, deleted) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+
+    private static final String ALLOCATE_BLOCKS_SQL =
+            "SELECT nextval('transactions_id_seq') FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Iterator<Long> ids = allocateIds(transactions.size()).iterator();
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, transactions, transactions.size(), (ps, transaction) -> {
+            ps.setLong(1, ids.next());
+            ps.setString(2, transaction.getDescription());
+            ps.setBigDecimal(3, transaction.getAmount());
+            ps.setDate(4, Date.valueOf(transaction.getDate()));
+            ps.setString(5, transaction.getType().name());
+            ps.setString(6, transaction.getPaymentMethod().name());
+            ps.setString(7, transaction.getNotes());
+            ps.setLong(8, transaction.getCategory().getId());
+            ps.setLong(9, transaction.getUser().getId());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+    }
+
+    /**
+     * Um nextval por bloco de ID_BLOCK_SIZE linhas, expandido no cliente para (valor - 49 .. valor],
+     * a mesma faixa que o Hibernate usa; ids abaixo de 1 (início da sequence) são descartados.
+     */
+    private List<Long> allocateIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = Math.ceilDiv(count - ids.size(), ID_BLOCK_SIZE);
+            for (long high : jdbcTemplate.queryForList(ALLOCATE_BLOCKS_SQL, Long.class, blocks)) {
+                for (long id = Math.max(1, high - ID_BLOCK_SIZE + 1); id <= high && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+}
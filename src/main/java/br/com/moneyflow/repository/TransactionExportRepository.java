@@ -0,0 +1,85 @@
+package br.com.moneyflow.repository;
+
+import br.com.moneyflow.model.dto.transaction.TransactionExportDTO;
+import br.com.moneyflow.model.entity.PaymentMethod;
+import br.com.moneyflow.model.entity.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Leitura das transações para exportação por cursor JDBC (forward-only, com fetch size),
+ * sem passar pelo contexto de persistência. Precisa rodar dentro de uma transação para
+ * que o driver do PostgreSQL busque as linhas em blocos em vez de carregar tudo.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionExportRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${moneyflow.export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * includeArchive lê a visão transaction_history (quente + arquivo) em vez de apenas transactions.
+     */
+    public void streamByFilters(Long userId, Long categoryId, TransactionType type,
+                                LocalDate startDate, LocalDate endDate, boolean includeArchive,
+                                Consumer<TransactionExportDTO> consumer) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT t.id, t.date, t.description, t.amount, t.type, c.name AS category, " +
+                "t.payment_method, t.notes " +
+                "FROM " + (includeArchive ? "transaction_history" : "transactions") + " t " +
+                "JOIN categories c ON c.id = t.category_id " +
+                "WHERE t.user_id = ? AND t.deleted = false");
+        List<Object> params = new ArrayList<>();
+        params.add(userId);
+
+        if (categoryId != null) {
+            sql.append(" AND t.category_id = ?");
+            params.add(categoryId);
+        }
+        if (type != null) {
+            sql.append(" AND t.type = ?");
+            params.add(type.name());
+        }
+        if (startDate != null) {
+            sql.append(" AND t.date >= ?");
+            params.add(Date.valueOf(startDate));
+        }
+        if (endDate != null) {
+            sql.append(" AND t.date <= ?");
+            params.add(Date.valueOf(endDate));
+        }
+        sql.append(" ORDER BY t.date DESC, t.id DESC");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new TransactionExportDTO(
+                rs.getLong("id"),
+                rs.getDate("date").toLocalDate(),
+                rs.getString("description"),
+                rs.getBigDecimal("amount"),
+                TransactionType.valueOf(rs.getString("type")),
+                rs.getString("category"),
+                PaymentMethod.valueOf(rs.getString("payment_method")),
+                rs.getString("notes"))));
+    }
+}
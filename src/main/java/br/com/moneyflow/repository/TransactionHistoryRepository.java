@@ -0,0 +1,145 @@
+package br.com.moneyflow.repository;
+
+import br.com.moneyflow.model.dto.projection.TransactionListProjection;
+import br.com.moneyflow.model.entity.TransactionHistory;
+import br.com.moneyflow.model.entity.TransactionType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Mesmas consultas de TransactionRepository sobre a visão transaction_history (quente + arquivo).
+ * Somente leitura: transações arquivadas podem ser consultadas por id, mas não editadas, excluídas ou restauradas.
+ */
+public interface TransactionHistoryRepository extends Repository<TransactionHistory, Long>, TransactionQueries {
+
+    boolean existsByCategoryId(Long categoryId);
+
+    @Query(LIST_PROJECTION +
+            "FROM TransactionHistory t JOIN t.category c " +
+            "WHERE t.id = :id " +
+            "AND t.user.id = :userId " +
+            "AND t.deleted = false")
+    Optional<TransactionListProjection> findActiveById(@Param("userId") Long userId, @Param("id") Long id);
+
+    @Query(LIST_PROJECTION +
+            "FROM TransactionHistory t JOIN t.category c " +
+            LIST_FILTERS +
+            "ORDER BY t.date DESC")
+    List<TransactionListProjection> findByFilters(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable
+    );
+
+    @Query(LIST_PROJECTION +
+            "FROM TransactionHistory t JOIN t.category c " +
+            LIST_FILTERS +
+            "ORDER BY t.date DESC")
+    Slice<TransactionListProjection> findSliceByFilters(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable
+    );
+
+    @Query(LIST_PROJECTION +
+            "FROM TransactionHistory t JOIN t.category c " +
+            LIST_FILTERS +
+            "ORDER BY t.date DESC, t.id DESC")
+    Slice<TransactionListProjection> findFirstPageByFilters(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable
+    );
+
+    // Paginação por cursor: busca as linhas estritamente após (cursorDate, cursorId) na ordem (date DESC, id DESC)
+    @Query(LIST_PROJECTION +
+            "FROM TransactionHistory t JOIN t.category c " +
+            LIST_FILTERS +
+            CURSOR_FILTER +
+            "ORDER BY t.date DESC, t.id DESC")
+    Slice<TransactionListProjection> findPageAfterCursor(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @Query("SELECT COUNT(t) FROM TransactionHistory t " + LIST_FILTERS)
+    long countByFilters(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT COALESCE(SUM(t.amount), 0) " +
+            "FROM TransactionHistory t " +
+            "WHERE t.user.id = :userId " +
+            "AND t.type = 'INCOME' " +
+            "AND t.deleted = false " +
+            "AND t.date BETWEEN :startDate AND :endDate")
+    BigDecimal sumIncomeByPeriod(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT COALESCE(SUM(t.amount), 0) " +
+            "FROM TransactionHistory t " +
+            "WHERE t.user.id = :userId " +
+            "AND t.type = 'EXPENSE' " +
+            "AND t.deleted = false " +
+            "AND t.date BETWEEN :startDate AND :endDate")
+    BigDecimal sumExpensesByPeriod(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT COUNT(t) FROM TransactionHistory t " +
+            "WHERE t.user.id = :userId " +
+            "AND t.deleted = false " +
+            "AND t.date BETWEEN :startDate AND :endDate")
+    Long countByUserIdAndDateBetweenAndDeletedFalse(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT c.id as categoryId, c.name as categoryName, SUM(t.amount) as totalAmount, COUNT(t.id) as transactionCount " +
+            "FROM TransactionHistory t " +
+            "JOIN t.category c " +
+            "WHERE t.user.id = :userId " +
+            "AND t.type = 'EXPENSE' " +
+            "AND t.deleted = false " +
+            "AND t.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY c.id, c.name " +
+            "ORDER BY totalAmount DESC")
+    List<TransactionRepository.CategoryExpenseProjection> findExpensesByCategory(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+}
@@ -0,0 +1,80 @@
+package br.com.moneyflow.repository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Manutenção das partições mensais de transactions (transactions_pAAAA_MM) via JDBC.
+ * Os nomes são sempre derivados de uma data, nunca de entrada externa.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionPartitionRepository {
+
+    private static final String PARTITION_PREFIX = "transactions_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Cria a partição do mês da data informada; retorna false se ela já existia.
+     */
+    public boolean createPartition(LocalDate month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT create_transactions_partition(?)", Boolean.class, Date.valueOf(month)));
+    }
+
+    /**
+     * Primeiro dia de cada partição mensal existente, em ordem crescente.
+     */
+    public List<LocalDate> findPartitionMonths() {
+        return jdbcTemplate.queryForList(
+                        "SELECT c.relname FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent " +
+                        "WHERE p.relname = 'transactions' AND c.relname ~ '^transactions_p[0-9]{4}_[0-9]{2}$' " +
+                        "ORDER BY c.relname", String.class)
+                .stream()
+                .map(name -> LocalDate.parse(name.substring(PARTITION_PREFIX.length()) + "_01",
+                        DateTimeFormatter.ofPattern("yyyy_MM_dd")))
+                .toList();
+    }
+
+    /**
+     * Remove a partição se ela não tem transações ativas nem excluídas logicamente depois de deletedBefore.
+     * Verificação e DROP ocorrem na mesma transação, com a tabela pai e a partição travadas em
+     * ACCESS EXCLUSIVE: uma restauração não pode reativar uma linha entre a verificação e o DROP.
+     * A tabela pai é travada primeiro (ONLY, sem recursão), na mesma ordem usada pelas consultas,
+     * evitando deadlock; lock_timeout limita quanto tempo a manutenção espera por transações em curso.
+     * Retorna true quando a partição foi removida.
+     */
+    @Transactional
+    public boolean dropIfPurgeable(LocalDate month, LocalDateTime deletedBefore, Duration lockTimeout) {
+        String partition = partitionName(month);
+        jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeout.toMillis());
+        jdbcTemplate.execute("LOCK TABLE ONLY transactions IN ACCESS EXCLUSIVE MODE");
+        jdbcTemplate.execute("LOCK TABLE " + partition + " IN ACCESS EXCLUSIVE MODE");
+
+        boolean purgeable = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT NOT EXISTS (SELECT 1 FROM " + partition +
+                " WHERE deleted = false OR updated_at >= ?)", Boolean.class, Timestamp.valueOf(deletedBefore)));
+        if (purgeable) {
+            jdbcTemplate.execute("DROP TABLE " + partition);
+        }
+        return purgeable;
+    }
+
+    private static String partitionName(LocalDate month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+}
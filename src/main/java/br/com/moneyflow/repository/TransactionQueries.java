@@ -0,0 +1,62 @@
+package br.com.moneyflow.repository;
+
+import br.com.moneyflow.model.dto.projection.TransactionListProjection;
+import br.com.moneyflow.model.entity.TransactionType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Consultas de leitura por período comuns à tabela quente (TransactionRepository)
+ * e à visão com o arquivo (TransactionHistoryRepository).
+ * TransactionService escolhe a implementação conforme a data inicial do filtro.
+ * Os trechos de JPQL abaixo são compartilhados pelas duas implementações, que diferem apenas
+ * na entidade do FROM; todos usam o alias t para a transação e c para a categoria.
+ */
+public interface TransactionQueries {
+
+    /** Colunas de TransactionListProjection */
+    String LIST_PROJECTION =
+            "SELECT t.id as id, t.description as description, t.amount as amount, t.date as date, " +
+            "t.type as type, c.id as categoryId, c.name as categoryName, c.type as categoryType, " +
+            "t.paymentMethod as paymentMethod, t.notes as notes, t.createdAt as createdAt, t.updatedAt as updatedAt ";
+
+    /** Filtros opcionais da listagem (categoryId, type, startDate, endDate) sobre as transações ativas do usuário */
+    String LIST_FILTERS =
+            "WHERE t.user.id = :userId " +
+            "AND t.deleted = false " +
+            "AND (:categoryId IS NULL OR t.category.id = :categoryId) " +
+            "AND (:type IS NULL OR t.type = :type) " +
+            "AND (:startDate IS NULL OR t.date >= :startDate) " +
+            "AND (:endDate IS NULL OR t.date <= :endDate) ";
+
+    /** Linhas estritamente após (cursorDate, cursorId) na ordem (date DESC, id DESC) */
+    String CURSOR_FILTER = "AND (t.date < :cursorDate OR (t.date = :cursorDate AND t.id < :cursorId)) ";
+
+    List<TransactionListProjection> findByFilters(Long userId, Long categoryId, TransactionType type,
+                                                  LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    Slice<TransactionListProjection> findSliceByFilters(Long userId, Long categoryId, TransactionType type,
+                                                        LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    Slice<TransactionListProjection> findFirstPageByFilters(Long userId, Long categoryId, TransactionType type,
+                                                            LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    Slice<TransactionListProjection> findPageAfterCursor(Long userId, Long categoryId, TransactionType type,
+                                                         LocalDate startDate, LocalDate endDate,
+                                                         LocalDate cursorDate, Long cursorId, Pageable pageable);
+
+    long countByFilters(Long userId, Long categoryId, TransactionType type, LocalDate startDate, LocalDate endDate);
+
+    BigDecimal sumIncomeByPeriod(Long userId, LocalDate startDate, LocalDate endDate);
+
+    BigDecimal sumExpensesByPeriod(Long userId, LocalDate startDate, LocalDate endDate);
+
+    Long countByUserIdAndDateBetweenAndDeletedFalse(Long userId, LocalDate startDate, LocalDate endDate);
+
+    List<TransactionRepository.CategoryExpenseProjection> findExpensesByCategory(Long userId, LocalDate startDate,
+                                                                                 LocalDate endDate);
+}
@@ -1,8 +1,10 @@
 package br.com.moneyflow.repository;
 
+import br.com.moneyflow.model.dto.projection.TransactionListProjection;
 import br.com.moneyflow.model.entity.Transaction;
 import br.com.moneyflow.model.entity.TransactionType;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,15 +14,19 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionQueries {
 
     // Query Methods (Derivados)
     List<Transaction> findByUserId(Long userId);
 
     List<Transaction> findByUserIdAndDeletedFalse(Long userId, Pageable pageable);
 
+    // Buscas só por id não têm a data (chave de partição) e consultam o índice (id, date) de cada partição;
+    // a rota da API recebe apenas o id. Escritas posteriores na entidade carregada já usam id e date.
     Optional<Transaction> findByIdAndDeletedFalse(Long id);
 
+    Optional<Transaction> findByIdAndDeletedTrue(Long id);
+
     List<Transaction> findByUserIdAndType(Long userId, TransactionType type);
 
     List<Transaction> findByUserIdAndCategoryId(Long userId, Long categoryId);
@@ -41,15 +47,11 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             Pageable pageable
     );
 
-    @Query("SELECT t FROM Transaction t " +
-            "WHERE t.user.id = :userId " +
-            "AND t.deleted = false " +
-            "AND (:categoryId IS NULL OR t.category.id = :categoryId) " +
-            "AND (:type IS NULL OR t.type = :type) " +
-            "AND (:startDate IS NULL OR t.date >= :startDate) " +
-            "AND (:endDate IS NULL OR t.date <= :endDate) " +
+    @Query(LIST_PROJECTION +
+            "FROM Transaction t JOIN t.category c " +
+            LIST_FILTERS +
             "ORDER BY t.date DESC")
-    List<Transaction> findByFilters(
+    List<TransactionListProjection> findByFilters(
             @Param("userId") Long userId,
             @Param("categoryId") Long categoryId,
             @Param("type") TransactionType type,
@@ -58,13 +60,50 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             Pageable pageable
     );
 
-    @Query("SELECT COUNT(t) FROM Transaction t " +
-            "WHERE t.user.id = :userId " +
-            "AND t.deleted = false " +
-            "AND (:categoryId IS NULL OR t.category.id = :categoryId) " +
-            "AND (:type IS NULL OR t.type = :type) " +
-            "AND (:startDate IS NULL OR t.date >= :startDate) " +
-            "AND (:endDate IS NULL OR t.date <= :endDate)")
+    @Query(LIST_PROJECTION +
+            "FROM Transaction t JOIN t.category c " +
+            LIST_FILTERS +
+            "ORDER BY t.date DESC")
+    Slice<TransactionListProjection> findSliceByFilters(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable
+    );
+
+    @Query(LIST_PROJECTION +
+            "FROM Transaction t JOIN t.category c " +
+            LIST_FILTERS +
+            "ORDER BY t.date DESC, t.id DESC")
+    Slice<TransactionListProjection> findFirstPageByFilters(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable
+    );
+
+    // Paginação por cursor: busca as linhas estritamente após (cursorDate, cursorId) na ordem (date DESC, id DESC)
+    @Query(LIST_PROJECTION +
+            "FROM Transaction t JOIN t.category c " +
+            LIST_FILTERS +
+            CURSOR_FILTER +
+            "ORDER BY t.date DESC, t.id DESC")
+    Slice<TransactionListProjection> findPageAfterCursor(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @Query("SELECT COUNT(t) FROM Transaction t " + LIST_FILTERS)
     long countByFilters(
             @Param("userId") Long userId,
             @Param("categoryId") Long categoryId,
@@ -107,21 +146,6 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("endDate") LocalDate endDate
     );
 
-    @Query("SELECT COALESCE(SUM(t.amount), 0) " +
-            "FROM Transaction t " +
-            "WHERE t.user.id = :userId " +
-            "AND t.category.id = :categoryId " +
-            "AND t.type = 'EXPENSE' " +
-            "AND t.deleted = false " +
-            "AND YEAR(t.date) = :year " +
-            "AND MONTH(t.date) = :month")
-    BigDecimal sumExpensesByCategoryAndMonth(
-            @Param("userId") Long userId,
-            @Param("categoryId") Long categoryId,
-            @Param("year") int year,
-            @Param("month") int month
-    );
-
     @Query("SELECT c.id as categoryId, c.name as categoryName, SUM(t.amount) as totalAmount, COUNT(t.id) as transactionCount " +
             "FROM Transaction t " +
             "JOIN t.category c " +
@@ -150,31 +174,16 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("endDate") LocalDate endDate
     );
 
-    @Query("SELECT t FROM Transaction t " +
+    @Query(LIST_PROJECTION +
+            "FROM Transaction t JOIN t.category c " +
             "WHERE t.user.id = :userId " +
             "AND t.deleted = false " +
             "ORDER BY t.date DESC, t.createdAt DESC")
-    List<Transaction> findRecentTransactions(
+    List<TransactionListProjection> findRecentTransactions(
             @Param("userId") Long userId,
             Pageable pageable
     );
 
-    @Query("SELECT c.id as categoryId, c.name as categoryName, COALESCE(SUM(t.amount), 0) as totalAmount, COUNT(t.id) as transactionCount " +
-            "FROM Transaction t " +
-            "JOIN t.category c " +
-            "WHERE t.user.id = :userId " +
-            "AND t.type = 'EXPENSE' " +
-            "AND t.deleted = false " +
-            "AND YEAR(t.date) = :year " +
-            "AND MONTH(t.date) = :month " +
-            "GROUP BY c.id, c.name " +
-            "ORDER BY totalAmount DESC")
-    List<CategoryExpenseProjection> findExpensesByCategoryAndMonth(
-            @Param("userId") Long userId,
-            @Param("year") Integer year,
-            @Param("month") Integer month
-    );
-
     interface CategoryExpenseProjection {
         Long getCategoryId();
         String getCategoryName();
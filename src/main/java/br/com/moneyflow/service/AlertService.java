@@ -2,12 +2,14 @@ package br.com.moneyflow.service;
 
 import br.com.moneyflow.exception.resource.AlertNotFoundException;
 import br.com.moneyflow.exception.authorization.UnauthorizedAcessException;
+import br.com.moneyflow.exception.business.InvalidMonthException;
 import br.com.moneyflow.exception.business.ValidationException;
+import br.com.moneyflow.model.dto.alert.AlertFilterDTO;
 import br.com.moneyflow.model.dto.alert.AlertResponseDTO;
 import br.com.moneyflow.model.dto.category.CategorySimpleDTO;
+import br.com.moneyflow.model.dto.projection.BudgetAlertProjection;
 import br.com.moneyflow.model.entity.*;
 import br.com.moneyflow.repository.AlertRepository;
-import br.com.moneyflow.repository.BudgetRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,97 +25,54 @@ import java.util.stream.Collectors;
 public class AlertService {
 
     private final AlertRepository alertRepository;
-    private final BudgetRepository budgetRepository;
+    private final AlertStreamService alertStreamService;
+    private final UnreadAlertCounter unreadAlertCounter;
 
+    /**
+     * Avalia o orçamento a partir da projeção já carregada (orçamento + gasto do mês),
+     * sem recarregar o orçamento nem sua categoria.
+     */
     @Transactional
-    public void checkAndSendBudgetAlert(Budget budget, BigDecimal currentSpent) {
-        if (budget == null || currentSpent == null) {
+    public void checkAndSendBudgetAlert(BudgetAlertProjection status) {
+        if (status == null || status.getBudgetAmount() == null) {
             return;
         }
 
-        BigDecimal budgetAmount = budget.getAmount();
-        if (budgetAmount.compareTo(BigDecimal.ZERO) == 0) {
+        if (status.getBudgetAmount().compareTo(BigDecimal.ZERO) == 0) {
             return;
         }
 
-        BigDecimal percentage = calculatePercentage(currentSpent, budgetAmount);
+        BigDecimal percentage = status.getPercentageUsed();
 
         if (percentage.compareTo(BigDecimal.valueOf(100)) >= 0) {
-            createBudgetCriticalAlert(budget.getUser().getId(), budget.getId(), percentage);
+            createBudgetCriticalAlert(status, percentage);
         } else if (percentage.compareTo(BigDecimal.valueOf(80)) >= 0) {
-            createBudgetWarningAlert(budget.getUser().getId(), budget.getId(), percentage);
+            createBudgetWarningAlert(status, percentage);
         } else {
-            removeExistingBudgetAlerts(budget);
+            if (alertRepository.deleteActiveBudgetAlerts(status.getUserId(), status.getId()) > 0) {
+                unreadAlertCounter.invalidate(status.getUserId());
+                alertStreamService.unreadCountChanged(status.getUserId());
+            }
         }
     }
 
-    @Transactional
-    public AlertResponseDTO createBudgetWarningAlert(Long userId, Long budgetId, BigDecimal percentage) {
-        if (alertRepository.existsByUserIdAndBudgetIdAndLevel(userId, budgetId, AlertLevel.WARNING)) {
-            return null;
-        }
-
-        Budget budget = budgetRepository.findByIdAndUserId(budgetId, userId)
-                .orElseThrow(() -> new ValidationException("Orçamento não encontrado"));
-
-        removeExistingBudgetAlerts(budget);
-
+    private void createBudgetWarningAlert(BudgetAlertProjection status, BigDecimal percentage) {
         String message = String.format(
                 "Você gastou %.2f%% do orçamento de %s este mês",
                 percentage,
-                budget.getCategory().getName());
-
-        Alert alert = Alert.builder()
-                .message(message)
-                .level(AlertLevel.WARNING)
-                .alertType(AlertType.BUDGET_WARNING)
-                .budgetAmount(budget.getAmount())
-                .currentAmount(calculateCurrentAmount(budget.getAmount(), percentage))
-                .month(budget.getMonth())
-                .year(budget.getYear())
-                .category(budget.getCategory())
-                .budget(budget)
-                .user(budget.getUser())
-                .read(false)
-                .build();
-
-        Alert savedAlert = alertRepository.save(alert);
-        return toAlertResponseDTO(savedAlert);
-    }
+                status.getCategoryName());
 
-    @Transactional
-    public AlertResponseDTO createBudgetCriticalAlert(Long userId, Long budgetId, BigDecimal percentage) {
-        if (alertRepository.existsByUserIdAndBudgetIdAndLevel(userId, budgetId, AlertLevel.CRITICAL)) {
-            return null;
-        }
-
-        Budget budget = budgetRepository.findByIdAndUserId(budgetId, userId)
-                .orElseThrow(() -> new ValidationException("Orçamento não encontrado"));
-
-        removeExistingBudgetAlerts(budget);
+        upsertBudgetAlert(status, AlertLevel.WARNING, AlertType.BUDGET_WARNING, message);
+    }
 
+    private void createBudgetCriticalAlert(BudgetAlertProjection status, BigDecimal percentage) {
         BigDecimal exceededBy = percentage.subtract(BigDecimal.valueOf(100));
         String message = String.format(
                 "ATENÇÃO! Orçamento de %s excedido em %.2f%%",
-                budget.getCategory().getName(),
+                status.getCategoryName(),
                 exceededBy.compareTo(BigDecimal.ZERO) > 0 ? exceededBy : BigDecimal.ZERO);
 
-        Alert alert = Alert.builder()
-                .message(message)
-                .level(AlertLevel.CRITICAL)
-                .alertType(AlertType.BUDGET_EXCEEDED)
-                .budgetAmount(budget.getAmount())
-                .currentAmount(calculateCurrentAmount(budget.getAmount(), percentage))
-                .month(budget.getMonth())
-                .year(budget.getYear())
-                .category(budget.getCategory())
-                .budget(budget)
-                .user(budget.getUser())
-                .read(false)
-                .build();
-
-        Alert savedAlert = alertRepository.save(alert);
-        return toAlertResponseDTO(savedAlert);
+        upsertBudgetAlert(status, AlertLevel.CRITICAL, AlertType.BUDGET_EXCEEDED, message);
     }
 
     public List<AlertResponseDTO> getAlertsByUser(Long userId, Boolean isRead) {
@@ -132,7 +91,7 @@ public class AlertService {
     }
 
     public Long getUnreadAlertCount(Long userId) {
-        return alertRepository.countByUserIdAndReadFalse(userId);
+        return unreadAlertCounter.get(userId);
     }
 
     @Transactional
@@ -146,6 +105,8 @@ public class AlertService {
 
         alert.markAsRead();
         Alert updatedAlert = alertRepository.save(alert);
+        unreadAlertCounter.decrement(userId, 1);
+        alertStreamService.alertsRead(userId, List.of(alertId));
 
         return toAlertResponseDTO(updatedAlert);
     }
@@ -162,25 +123,24 @@ public class AlertService {
                     "Um ou mais alertas não pertencem ao usuário ou não existem");
         }
 
-        return alertRepository.markAlertsAsRead(userId, alertIds, LocalDateTime.now());
+        int updated = alertRepository.markAlertsAsRead(userId, alertIds, LocalDateTime.now());
+        if (updated > 0) {
+            unreadAlertCounter.decrement(userId, updated);
+            alertStreamService.alertsRead(userId, alertIds);
+        }
+        return updated;
     }
 
     @Transactional
     public Integer markAllAlertsAsRead(Long userId) {
-        List<Alert> unreadAlerts = alertRepository.findByUserIdAndReadFalse(userId);
+        int updated = alertRepository.markAllAsRead(userId, LocalDateTime.now());
 
-        if (unreadAlerts.isEmpty()) {
-            return 0;
+        if (updated > 0) {
+            unreadAlertCounter.decrement(userId, updated);
+            // Lista vazia: todos os alertas do usuário foram lidos
+            alertStreamService.alertsRead(userId, List.of());
         }
-
-        LocalDateTime now = LocalDateTime.now();
-        unreadAlerts.forEach(alert -> {
-            alert.setRead(true);
-            alert.setReadAt(now);
-        });
-
-        alertRepository.saveAll(unreadAlerts);
-        return unreadAlerts.size();
+        return updated;
     }
 
     @Transactional
@@ -189,6 +149,39 @@ public class AlertService {
                 .orElseThrow(() -> new AlertNotFoundException("Alerta não encontrado com id: " + alertId));
 
         alertRepository.delete(alert);
+        if (!Boolean.TRUE.equals(alert.getRead())) {
+            unreadAlertCounter.decrement(userId, 1);
+            alertStreamService.unreadCountChanged(userId);
+        }
+    }
+
+    /**
+     * Exclui em um único DELETE os alertas do usuário que atendem a todos os filtros informados.
+     * Exige ao menos um filtro para evitar apagar todos os alertas por engano.
+     */
+    @Transactional
+    public int deleteAlerts(Long userId, AlertFilterDTO filters) {
+        if (filters == null || filters.isEmpty()) {
+            throw new ValidationException("Informe ao menos um filtro para excluir alertas");
+        }
+        if (filters.month() != null && (filters.month() < 1 || filters.month() > 12)) {
+            throw new InvalidMonthException("Mês deve estar entre 1 e 12");
+        }
+
+        int deleted = alertRepository.deleteByFilters(
+                userId,
+                filters.read(),
+                filters.level(),
+                filters.alertType(),
+                filters.month(),
+                filters.year(),
+                filters.createdBefore() != null ? filters.createdBefore().atStartOfDay() : null);
+
+        if (deleted > 0 && !Boolean.TRUE.equals(filters.read())) {
+            unreadAlertCounter.invalidate(userId);
+            alertStreamService.unreadCountChanged(userId);
+        }
+        return deleted;
     }
 
     @Transactional
@@ -197,20 +190,36 @@ public class AlertService {
             daysOld = 30; // Default: 30 dias
         }
 
+        // Remove apenas alertas lidos, então o contador de não lidos não muda
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
         return alertRepository.deleteOldReadAlerts(userId, cutoffDate);
     }
 
-    private void removeExistingBudgetAlerts(Budget budget) {
-        alertRepository.deleteByUserIdAndBudgetIdAndLevel(
-                budget.getUser().getId(),
-                budget.getId(),
-                AlertLevel.WARNING);
-
-        alertRepository.deleteByUserIdAndBudgetIdAndLevel(
-                budget.getUser().getId(),
-                budget.getId(),
-                AlertLevel.CRITICAL);
+    /**
+     * Um único INSERT ... ON CONFLICT: o índice uk_alerts_active_budget garante no máximo
+     * um alerta ativo por orçamento, mesmo com avaliações concorrentes.
+     */
+    private void upsertBudgetAlert(BudgetAlertProjection status, AlertLevel level, AlertType alertType,
+                                   String message) {
+        int changed = alertRepository.upsertActiveBudgetAlert(
+                status.getUserId(),
+                status.getId(),
+                status.getCategoryId(),
+                level.name(),
+                alertType.name(),
+                message,
+                status.getBudgetAmount(),
+                status.getSpentAmount(),
+                status.getMonth(),
+                status.getYear(),
+                LocalDateTime.now());
+
+        if (changed == 0) {
+            return;
+        }
+        // O upsert pode ter inserido um alerta ou substituído um já lido; o contador é recarregado
+        unreadAlertCounter.invalidate(status.getUserId());
+        alertStreamService.alertCreated(status.getUserId(), status.getId(), level);
     }
 
     private BigDecimal calculatePercentage(BigDecimal currentSpent, BigDecimal budgetAmount) {
@@ -222,12 +231,6 @@ public class AlertService {
                 .divide(budgetAmount, 2, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateCurrentAmount(BigDecimal budgetAmount, BigDecimal percentage) {
-        return budgetAmount
-                .multiply(percentage)
-                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-    }
-
     private AlertResponseDTO toAlertResponseDTO(Alert alert) {
         BigDecimal percentageUsed = BigDecimal.ZERO;
         if (alert.getBudgetAmount() != null &&
@@ -0,0 +1,214 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.model.dto.alert.AlertEventDTO;
+import br.com.moneyflow.model.entity.AlertLevel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Envia eventos de alerta em tempo real (Server-Sent Events) aos clientes conectados de cada usuário.
+ * Regras:
+ * 1. Eventos são publicados somente após o commit da transação que os originou
+ * 2. O contador de não lidos (UnreadAlertCounter) é lido uma vez por evento, e só para usuários com clientes conectados
+ * 3. Conexões não prendem threads; os envios rodam em virtual threads
+ * 3.1. Os envios de cada usuário passam por uma fila própria, consumida por uma virtual thread de cada vez,
+ *      então os clientes recebem os eventos na ordem dos commits e o último contador enviado é o mais recente
+ * 4. Um heartbeat periódico mantém as conexões abertas através de proxies e detecta clientes desconectados
+ */
+@Service
+@Slf4j
+public class AlertStreamService {
+
+    static final String ALERT_CREATED = "alert-created";
+    static final String ALERT_READ = "alert-read";
+    static final String UNREAD_COUNT = "unread-count";
+
+    private final UnreadAlertCounter unreadAlertCounter;
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, Outbox> outboxes = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("alert-stream-heartbeat").daemon(true).factory());
+    private final long timeoutMs;
+    private final int maxConnectionsPerUser;
+
+    public AlertStreamService(UnreadAlertCounter unreadAlertCounter,
+                              MeterRegistry meterRegistry,
+                              @Value("${moneyflow.alerts.stream.timeout:30m}") Duration timeout,
+                              @Value("${moneyflow.alerts.stream.heartbeat:25s}") Duration heartbeatInterval,
+                              @Value("${moneyflow.alerts.stream.max-connections-per-user:5}") int maxConnectionsPerUser) {
+        this.unreadAlertCounter = unreadAlertCounter;
+        this.timeoutMs = timeout.toMillis();
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        Gauge.builder("moneyflow.alerts.stream.connections", emitters,
+                        map -> map.values().stream().mapToInt(List::size).sum())
+                .description("Conexões SSE de alertas abertas")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        List<SseEmitter> userEmitters = emitters.compute(userId, (id, list) -> {
+            List<SseEmitter> current = list != null ? list : new CopyOnWriteArrayList<>();
+            current.add(emitter);
+            return current;
+        });
+
+        while (userEmitters.size() > maxConnectionsPerUser) {
+            SseEmitter oldest = userEmitters.removeFirst();
+            oldest.complete();
+        }
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        enqueue(userId, () -> {
+            Long unreadCount = unreadAlertCounter.get(userId);
+            send(userId, emitter, UNREAD_COUNT, new AlertEventDTO(null, null, List.of(), unreadCount));
+        });
+        return emitter;
+    }
+
+    public void alertCreated(Long userId, Long budgetId, AlertLevel level) {
+        publish(userId, ALERT_CREATED, budgetId, level, List.of());
+    }
+
+    public void alertsRead(Long userId, List<Long> alertIds) {
+        publish(userId, ALERT_READ, null, null, alertIds);
+    }
+
+    public void unreadCountChanged(Long userId) {
+        publish(userId, UNREAD_COUNT, null, null, List.of());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        emitters.values().forEach(list -> list.forEach(SseEmitter::complete));
+        emitters.clear();
+        outboxes.clear();
+        sender.shutdownNow();
+    }
+
+    private void publish(Long userId, String eventName, Long budgetId, AlertLevel level, List<Long> alertIds) {
+        afterCommit(() -> {
+            if (!emitters.containsKey(userId)) {
+                return;
+            }
+            enqueue(userId, () -> {
+                Long unreadCount = unreadAlertCounter.get(userId);
+                AlertEventDTO event = new AlertEventDTO(budgetId, level, alertIds, unreadCount);
+                for (SseEmitter emitter : emitters.getOrDefault(userId, List.of())) {
+                    send(userId, emitter, eventName, event);
+                }
+            });
+        });
+    }
+
+    private void sendHeartbeats() {
+        emitters.keySet().forEach(userId -> enqueue(userId, () -> {
+            for (SseEmitter emitter : emitters.getOrDefault(userId, List.of())) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    remove(userId, emitter);
+                }
+            }
+        }));
+    }
+
+    /**
+     * Adiciona o envio à fila do usuário e inicia o consumo se nenhuma virtual thread estiver consumindo.
+     * A inclusão na fila acontece dentro do compute, então não intercala com a remoção da fila em drain.
+     */
+    private void enqueue(Long userId, Runnable task) {
+        Outbox outbox = outboxes.compute(userId, (id, current) -> {
+            Outbox target = current != null ? current : new Outbox();
+            target.tasks.add(task);
+            return target;
+        });
+        if (outbox.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(userId, outbox));
+        }
+    }
+
+    private void drain(Long userId, Outbox outbox) {
+        do {
+            Runnable task;
+            while ((task = outbox.tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("Falha ao enviar evento SSE ao usuário {}", userId, e);
+                }
+            }
+            outbox.draining.set(false);
+            // Um envio enfileirado entre o último poll e o set(false) não iniciou outro consumo
+        } while (!outbox.tasks.isEmpty() && outbox.draining.compareAndSet(false, true));
+
+        // Remove a fila só se continuar vazia e sem consumidor: um enqueue concorrente ou deixa a tarefa nesta fila
+        // (que então é mantida) ou cria outra depois da remoção, nunca duas filas consumidas ao mesmo tempo
+        outboxes.computeIfPresent(userId, (id, current) ->
+                current == outbox && current.tasks.isEmpty() && !current.draining.get() && !emitters.containsKey(id)
+                        ? null
+                        : current);
+    }
+
+    private void send(Long userId, SseEmitter emitter, String eventName, AlertEventDTO event) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(event));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Cliente SSE do usuário {} desconectado: {}", userId, e.getMessage());
+            remove(userId, emitter);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Outbox {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,138 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.repository.BudgetRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Avalia alertas de orçamento fora do caminho de escrita.
+ * Regras:
+ * 1. Pedidos são enfileirados somente após o commit da transação que os originou
+ * 2. Pedidos para o mesmo (usuário, categoria, ano, mês) dentro da janela são agrupados em uma avaliação
+ * 3. Cada chave é sempre atendida pelo mesmo worker, então avaliações da mesma chave nunca concorrem
+ * 4. Cada avaliação roda em transação própria; falhas são registradas e não afetam a escrita original
+ */
+@Component
+@Slf4j
+public class BudgetAlertEvaluator {
+
+    record Key(Long userId, Long categoryId, int year, int month) {
+    }
+
+    private final BudgetRepository budgetRepository;
+    private final AlertService alertService;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Key> pending = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService[] workers;
+    private final long coalesceWindowMs;
+    private final Counter requested;
+    private final Counter evaluated;
+
+    public BudgetAlertEvaluator(BudgetRepository budgetRepository,
+                                AlertService alertService,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${moneyflow.budget-alerts.coalesce-window:500ms}") Duration coalesceWindow,
+                                @Value("${moneyflow.budget-alerts.workers:2}") int workerCount,
+                                @Value("${moneyflow.budget-alerts.queue-capacity:10000}") int queueCapacity) {
+        this.budgetRepository = budgetRepository;
+        this.alertService = alertService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.coalesceWindowMs = coalesceWindow.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory("budget-alerts-scheduler"));
+        this.workers = new ExecutorService[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity), threadFactory("budget-alerts-worker-" + i));
+        }
+        this.requested = Counter.builder("moneyflow.budget.alerts.requested")
+                .description("Pedidos de reavaliação de orçamento recebidos")
+                .register(meterRegistry);
+        this.evaluated = Counter.builder("moneyflow.budget.alerts.evaluated")
+                .description("Reavaliações de orçamento efetivamente executadas")
+                .register(meterRegistry);
+    }
+
+    public void schedule(Long userId, Long categoryId, LocalDate date) {
+        if (date == null) {
+            return;
+        }
+        schedule(userId, categoryId, date.getYear(), date.getMonthValue());
+    }
+
+    public void schedule(Long userId, Long categoryId, int year, int month) {
+        Key key = new Key(userId, categoryId, year, month);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(key);
+                }
+            });
+        } else {
+            enqueue(key);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        for (ExecutorService worker : workers) {
+            worker.shutdownNow();
+        }
+    }
+
+    private void enqueue(Key key) {
+        requested.increment();
+        if (!pending.add(key)) {
+            return;
+        }
+        try {
+            scheduler.schedule(() -> dispatch(key), coalesceWindowMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pending.remove(key);
+        }
+    }
+
+    private void dispatch(Key key) {
+        pending.remove(key);
+        try {
+            workers[Math.floorMod(key.hashCode(), workers.length)].execute(() -> evaluate(key));
+        } catch (RejectedExecutionException e) {
+            if (!scheduler.isShutdown()) {
+                log.warn("Fila de alertas de orçamento cheia, reagendando {}", key);
+                enqueue(key);
+            }
+        }
+    }
+
+    void evaluate(Key key) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> budgetRepository
+                    .findBudgetAlertStatus(key.userId(), key.categoryId(), key.month(), key.year())
+                    .ifPresent(alertService::checkAndSendBudgetAlert));
+            evaluated.increment();
+        } catch (RuntimeException e) {
+            log.error("Falha ao avaliar alertas de orçamento para {}", key, e);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        return Thread.ofPlatform().name(name).daemon(true).factory();
+    }
+}
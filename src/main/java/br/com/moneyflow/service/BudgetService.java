@@ -7,22 +7,22 @@ import br.com.moneyflow.model.dto.budget.BudgetResponseDTO;
 import br.com.moneyflow.model.dto.budget.BudgetStatusDTO;
 import br.com.moneyflow.model.dto.budget.BudgetUpdateDTO;
 import br.com.moneyflow.model.dto.category.CategorySimpleDTO;
+import br.com.moneyflow.model.dto.projection.BudgetAlertProjection;
 import br.com.moneyflow.model.dto.projection.BudgetStatusProjection;
 import br.com.moneyflow.model.entity.Budget;
-import br.com.moneyflow.model.entity.Category;
 import br.com.moneyflow.model.entity.CategoryType;
 import br.com.moneyflow.model.entity.User;
 import br.com.moneyflow.repository.BudgetRepository;
 import br.com.moneyflow.repository.CategoryRepository;
-import br.com.moneyflow.repository.TransactionRepository;
+import br.com.moneyflow.repository.MonthlyCategoryTotalRepository;
 import br.com.moneyflow.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDate;
 import java.time.Year;
 import java.util.Comparator;
 import java.util.List;
@@ -34,20 +34,22 @@ public class BudgetService {
 
     private final BudgetRepository budgetRepository;
     private final CategoryRepository categoryRepository;
-    private final TransactionRepository transactionRepository;
+    private final MonthlyCategoryTotalRepository monthlyCategoryTotalRepository;
     private final UserRepository userRepository;
     private final AlertService alertService;
+    private final DashboardCache dashboardCache;
+    private final CategoryCache categoryCache;
 
     @Transactional
     public BudgetResponseDTO createBudget(Long userId, BudgetRequestDTO dto) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("Usuário não encontrado com id: " + userId));
 
-        Category category = categoryRepository.findByUserIdAndId(userId, dto.categoryId())
+        CategoryCache.Entry category = categoryCache.find(userId, dto.categoryId())
                 .orElseThrow(() -> new CategoryNotFoundException(
                         "Categoria não encontrada ou não pertence ao usuário: " + dto.categoryId()));
 
-        if (category.getType() != CategoryType.EXPENSE) {
+        if (category.type() != CategoryType.EXPENSE) {
             throw new InvalidCategoryTypeException(
                     "Apenas categorias de despesa (EXPENSE) podem ter orçamento definido");
         }
@@ -69,24 +71,25 @@ public class BudgetService {
 
         Budget budget = Budget.builder()
                 .user(user)
-                .category(category)
+                .category(categoryRepository.getReferenceById(category.id()))
                 .amount(dto.amount())
                 .month(dto.month())
                 .year(dto.year())
                 .build();
 
-        Budget savedBudget = budgetRepository.save(budget);
-
-        BigDecimal currentSpent = transactionRepository.sumExpensesByCategoryAndMonth(
-                userId, category.getId(), dto.year(), dto.month());
-
-        if (currentSpent == null) {
-            currentSpent = BigDecimal.ZERO;
+        Budget savedBudget;
+        try {
+            // Flush imediato: se a categoria do cache já foi excluída, a FK falha aqui e vira 404
+            savedBudget = budgetRepository.saveAndFlush(budget);
+        } catch (DataIntegrityViolationException e) {
+            throw categoryCache.translateWriteFailure(userId, category.id(), e);
         }
+        dashboardCache.evictBudgetPeriod(userId, savedBudget.getMonth(), savedBudget.getYear());
 
-        alertService.checkAndSendBudgetAlert(savedBudget, currentSpent);
+        budgetRepository.findBudgetAlertStatus(userId, category.id(), dto.month(), dto.year())
+                .ifPresent(alertService::checkAndSendBudgetAlert);
 
-        return toBudgetResponseDTO(savedBudget);
+        return toBudgetResponseDTO(savedBudget, category.toSimpleDTO());
     }
 
     public BudgetResponseDTO getBudgetById(Long userId, Long budgetId) {
@@ -102,7 +105,7 @@ public class BudgetService {
                 .orElseThrow(() -> new BudgetNotFoundException(
                         "Orçamento não encontrado com id: " + budgetId));
 
-        BigDecimal spentAmount = transactionRepository.sumExpensesByCategoryAndMonth(
+        BigDecimal spentAmount = monthlyCategoryTotalRepository.sumExpensesByCategoryAndMonth(
                 userId,
                 budget.getCategory().getId(),
                 budget.getYear(),
@@ -143,18 +146,11 @@ public class BudgetService {
         budget.setAmount(dto.amount());
 
         Budget updatedBudget = budgetRepository.save(budget);
+        dashboardCache.evictBudgetPeriod(userId, updatedBudget.getMonth(), updatedBudget.getYear());
 
-        BigDecimal currentSpent = transactionRepository.sumExpensesByCategoryAndMonth(
-                userId,
-                budget.getCategory().getId(),
-                budget.getYear(),
-                budget.getMonth());
-
-        if (currentSpent == null) {
-            currentSpent = BigDecimal.ZERO;
-        }
-
-        alertService.checkAndSendBudgetAlert(updatedBudget, currentSpent);
+        budgetRepository.findBudgetAlertStatus(userId, budget.getCategory().getId(),
+                        updatedBudget.getMonth(), updatedBudget.getYear())
+                .ifPresent(alertService::checkAndSendBudgetAlert);
 
         return toBudgetResponseDTO(updatedBudget);
     }
@@ -166,6 +162,7 @@ public class BudgetService {
                         "Orçamento não encontrado com id: " + budgetId));
 
         budgetRepository.delete(budget);
+        dashboardCache.evictBudgetPeriod(userId, budget.getMonth(), budget.getYear());
     }
 
     @Transactional
@@ -173,24 +170,14 @@ public class BudgetService {
         validateMonth(month);
         validateYear(year);
 
-        List<Budget> budgets = budgetRepository.findByUserIdAndMonthAndYear(userId, month, year);
+        List<BudgetAlertProjection> budgets = budgetRepository.findBudgetAlertStatusByUserAndPeriod(
+                userId, month, year);
         int alertsCreated = 0;
 
-        for (Budget budget : budgets) {
-            BigDecimal spent = transactionRepository.sumExpensesByCategoryAndMonth(
-                    userId,
-                    budget.getCategory().getId(),
-                    year,
-                    month);
-
-            if (spent == null) {
-                spent = BigDecimal.ZERO;
-            }
+        for (BudgetAlertProjection budget : budgets) {
+            alertService.checkAndSendBudgetAlert(budget);
 
-            alertService.checkAndSendBudgetAlert(budget, spent);
-
-            BigDecimal percentage = calculatePercentage(spent, budget.getAmount());
-            if (percentage.compareTo(BigDecimal.valueOf(80)) >= 0) {
+            if (budget.getPercentageUsed().compareTo(BigDecimal.valueOf(80)) >= 0) {
                 alertsCreated++;
             }
         }
@@ -260,15 +247,11 @@ public class BudgetService {
     }
 
     private Long countTransactionsForBudget(Long userId, Budget budget) {
-        LocalDate startDate = LocalDate.of(budget.getYear(), budget.getMonth(), 1);
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-
-        return transactionRepository.countByFilters(
+        return monthlyCategoryTotalRepository.countByCategoryAndMonth(
                 userId,
                 budget.getCategory().getId(),
-                null,
-                startDate,
-                endDate);
+                budget.getYear(),
+                budget.getMonth());
     }
 
     private BudgetResponseDTO toBudgetResponseDTO(Budget budget) {
@@ -278,6 +261,10 @@ public class BudgetService {
                 budget.getCategory().getType()
         );
 
+        return toBudgetResponseDTO(budget, categoryDTO);
+    }
+
+    private BudgetResponseDTO toBudgetResponseDTO(Budget budget, CategorySimpleDTO categoryDTO) {
         return new BudgetResponseDTO(
                 budget.getId(),
                 categoryDTO,
@@ -0,0 +1,121 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.exception.resource.CategoryNotFoundException;
+import br.com.moneyflow.model.dto.category.CategorySimpleDTO;
+import br.com.moneyflow.model.entity.Category;
+import br.com.moneyflow.model.entity.CategoryType;
+import br.com.moneyflow.repository.CategoryRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cache por usuário dos metadados de categoria usados em validações e no mapeamento de DTOs.
+ * Regras:
+ * 1. Todas as categorias do usuário são carregadas de uma vez em um mapa imutável (id -> Entry)
+ * 2. CategoryService invalida o usuário após o commit de cada criação, edição ou exclusão
+ * 3. Uma categoria ausente do mapa não pertence ao usuário (ou não existe)
+ * 4. A invalidação é local à instância; com várias instâncias, expireAfterWrite limita por quanto tempo
+ *    uma instância enxerga categorias editadas ou excluídas em outra
+ * 5. Escritas que referenciam uma categoria do cache dependem da FK do banco: a violação é convertida
+ *    em CategoryNotFoundException por translateWriteFailure
+ */
+@Component
+public class CategoryCache {
+
+    public record Entry(Long id, String name, String description, CategoryType type, String color, String icon,
+                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        public CategorySimpleDTO toSimpleDTO() {
+            return new CategorySimpleDTO(id, name, type);
+        }
+    }
+
+    private static final Set<String> CATEGORY_FOREIGN_KEYS = Set.of("fk_transaction_category", "fk_budget_category");
+
+    private final LoadingCache<Long, Map<Long, Entry>> categories;
+
+    public CategoryCache(CategoryRepository categoryRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${moneyflow.categories.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${moneyflow.categories.cache.expire-after-write:30s}") Duration expireAfterWrite) {
+        this.categories = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(userId -> categoryRepository.findByUserId(userId).stream()
+                        .map(CategoryCache::toEntry)
+                        .collect(Collectors.toUnmodifiableMap(Entry::id, Function.identity())));
+        CaffeineCacheMetrics.monitor(meterRegistry, categories, "categories");
+    }
+
+    public Optional<Entry> find(Long userId, Long categoryId) {
+        if (categoryId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(categories.get(userId).get(categoryId));
+    }
+
+    public void invalidate(Long userId) {
+        afterCommit(() -> categories.invalidate(userId));
+    }
+
+    /**
+     * Converte a violação da FK de categoria numa escrita feita com flush imediato: a categoria foi excluída
+     * depois de carregada no cache. O usuário sai do cache na hora, pois a transação será desfeita e a
+     * invalidação após o commit não aconteceria. Outras violações são devolvidas sem alteração.
+     */
+    public RuntimeException translateWriteFailure(Long userId, Long categoryId, DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    && CATEGORY_FOREIGN_KEYS.contains(violation.getConstraintName().toLowerCase(Locale.ROOT))) {
+                categories.invalidate(userId);
+                return new CategoryNotFoundException("Categoria não encontrada com id: " + categoryId);
+            }
+        }
+        return e;
+    }
+
+    private static Entry toEntry(Category category) {
+        return new Entry(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.getType(),
+                category.getColor(),
+                category.getIcon(),
+                category.getCreatedAt(),
+                category.getUpdatedAt()
+        );
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
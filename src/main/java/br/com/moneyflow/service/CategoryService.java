@@ -10,7 +10,7 @@ import br.com.moneyflow.model.entity.CategoryType;
 import br.com.moneyflow.model.entity.User;
 import br.com.moneyflow.repository.BudgetRepository;
 import br.com.moneyflow.repository.CategoryRepository;
-import br.com.moneyflow.repository.TransactionRepository;
+import br.com.moneyflow.repository.TransactionHistoryRepository;
 import br.com.moneyflow.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,9 +24,11 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
-    private final TransactionRepository transactionRepository;
+    private final TransactionHistoryRepository transactionHistoryRepository;
     private final UserRepository userRepository;
     private final BudgetRepository budgetRepository;
+    private final DashboardCache dashboardCache;
+    private final CategoryCache categoryCache;
 
     @Transactional
     public CategoryResponseDTO createCategory(Long userId, CategoryRequestDTO dto) {
@@ -51,6 +53,7 @@ public class CategoryService {
         category.setIcon(dto.icon());
 
         Category savedCategory = categoryRepository.save(category);
+        categoryCache.invalidate(userId);
 
         return toDTO(savedCategory);
     }
@@ -73,6 +76,12 @@ public class CategoryService {
     }
 
     public CategoryResponseDTO getCategoryById(Long userId, Long categoryId) {
+        var cached = categoryCache.find(userId, categoryId);
+        if (cached.isPresent()) {
+            return toDTO(cached.get());
+        }
+
+        // Fora do cache: a categoria não existe ou é de outro usuário; consulta o banco para a exceção correta
         Category category = findCategoryOrThrow(categoryId);
         validateCategoryOwnership(category, userId);
         return toDTO(category);
@@ -91,7 +100,7 @@ public class CategoryService {
         }
 
         if (category.getType() != dto.type()) {
-            boolean hasTransactions = transactionRepository.existsByCategoryId(categoryId);
+            boolean hasTransactions = transactionHistoryRepository.existsByCategoryId(categoryId);
             if (hasTransactions) {
                 throw new CategoryTypeChangeNotAllowedException(
                         "Cannot change category type because it has associated transactions. " +
@@ -108,6 +117,8 @@ public class CategoryService {
         category.setIcon(dto.icon());
 
         Category updatedCategory = categoryRepository.save(category);
+        categoryCache.invalidate(userId);
+        dashboardCache.evictUser(userId);
 
         return toDTO(updatedCategory);
     }
@@ -118,7 +129,7 @@ public class CategoryService {
 
         validateCategoryOwnership(category, userId);
 
-        boolean hasTransactions = transactionRepository.existsByCategoryId(categoryId);
+        boolean hasTransactions = transactionHistoryRepository.existsByCategoryId(categoryId);
         if (hasTransactions) {
             throw new CategoryHasTransactionsException(
                     "Cannot delete category because it has associated transactions. " +
@@ -132,6 +143,8 @@ public class CategoryService {
                     "Please delete the budgets first.");
         }
         categoryRepository.delete(category);
+        categoryCache.invalidate(userId);
+        dashboardCache.evictUser(userId);
     }
 
     public List<CategoryWithCountDTO> getCategoriesWithTransactionCount(Long userId) {
@@ -155,7 +168,8 @@ public class CategoryService {
                             category.getIcon(),
                             category.getCreatedAt(),
                             category.getUpdatedAt(),
-                            transactionCount
+                            transactionCount,
+                            category.getLastUsedDate()
                     );
                 })
                 .collect(Collectors.toList());
@@ -184,6 +198,19 @@ public class CategoryService {
         }
     }
 
+    private CategoryResponseDTO toDTO(CategoryCache.Entry category) {
+        return new CategoryResponseDTO(
+                category.id(),
+                category.name(),
+                category.description(),
+                category.type(),
+                category.color(),
+                category.icon(),
+                category.createdAt(),
+                category.updatedAt()
+        );
+    }
+
     private CategoryResponseDTO toDTO(Category category) {
         return new CategoryResponseDTO(
                 category.getId(),
@@ -0,0 +1,166 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.exception.business.ValidationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV com cabeçalho. Colunas reconhecidas: date, description, amount, type, category,
+ * paymentMethod e notes (as três primeiras são obrigatórias). O separador (vírgula ou
+ * ponto e vírgula) é detectado pelo cabeçalho. Campos entre aspas podem conter o separador
+ * e quebras de linha (RFC 4180). Um apóstrofo na frente de um texto que começa com =, +, -, @,
+ * tabulação ou CR é o prefixo que a exportação usa contra injeção de fórmulas em planilhas
+ * e é removido, então o CSV exportado volta igual pela importação.
+ */
+class CsvTransactionImportReader implements TransactionImportReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("date", "description", "amount");
+    private static final String FORMULA_CHARS = "=+-@\t\r";
+    private static final char FORMULA_GUARD = '\'';
+
+    private final BufferedReader reader;
+    private final char separator;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int lineNumber = 1;
+
+    CsvTransactionImportReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+
+        String header = reader.readLine();
+        if (header == null || header.isBlank()) {
+            throw new ValidationException("Arquivo CSV vazio ou sem cabeçalho");
+        }
+        if (header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+
+        this.separator = header.indexOf(';') >= 0 ? ';' : ',';
+
+        List<String> names = split(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new ValidationException("Coluna obrigatória ausente no CSV: " + required);
+            }
+        }
+    }
+
+    @Override
+    public Row next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        int recordLine = lineNumber;
+        StringBuilder record = new StringBuilder(line);
+        boolean openQuote = hasOddQuotes(line);
+        while (openQuote) {
+            String continuation = reader.readLine();
+            if (continuation == null) {
+                break;
+            }
+            lineNumber++;
+            record.append('\n').append(continuation);
+            openQuote ^= hasOddQuotes(continuation);
+        }
+
+        List<String> values = split(record.toString());
+        return new Row(
+                recordLine,
+                value(values, "date"),
+                value(values, "description"),
+                value(values, "amount"),
+                value(values, "type"),
+                value(values, "category"),
+                value(values, "paymentmethod"),
+                value(values, "notes"));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : unguardFormula(value);
+    }
+
+    /**
+     * Prefixa com apóstrofo os textos que uma planilha interpretaria como fórmula. Textos que já
+     * começam com apóstrofos antes de um desses caracteres também ganham o prefixo, para que
+     * {@link #unguardFormula(String)} devolva sempre o valor original.
+     */
+    static String guardFormula(String value) {
+        return looksLikeFormula(value) ? FORMULA_GUARD + value : value;
+    }
+
+    static String unguardFormula(String value) {
+        return value.charAt(0) == FORMULA_GUARD && looksLikeFormula(value.substring(1)) ? value.substring(1) : value;
+    }
+
+    private static boolean looksLikeFormula(String value) {
+        int i = 0;
+        while (i < value.length() && value.charAt(i) == FORMULA_GUARD) {
+            i++;
+        }
+        return i < value.length() && FORMULA_CHARS.indexOf(value.charAt(i)) >= 0;
+    }
+
+    private static boolean hasOddQuotes(String line) {
+        int quotes = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 != 0;
+    }
+
+    private List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == separator) {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
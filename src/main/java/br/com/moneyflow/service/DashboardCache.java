@@ -0,0 +1,191 @@
+package br.com.moneyflow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Cache por usuário dos resultados do dashboard, limitado por tamanho e TTL.
+ * Meses já encerrados mudam apenas quando o usuário escreve neles, então vivem mais que o mês corrente.
+ * As invalidações são aplicadas após o commit da transação que as originou.
+ * Cada usuário tem um índice com suas chaves e uma geração incrementada a cada invalidação:
+ * um carregamento que começou antes de uma invalidação não grava o resultado (possivelmente antigo) no cache.
+ */
+@Component
+public class DashboardCache {
+
+    public enum Endpoint {
+        SUMMARY,
+        COMPARISON,
+        YEARLY_OVERVIEW
+    }
+
+    public record Key(Long userId, Endpoint endpoint, int year, int month) {
+    }
+
+    private final Cache<Key, Object> cache;
+    private final Cache<Long, UserIndex> users;
+
+    public DashboardCache(MeterRegistry meterRegistry,
+                          @Value("${moneyflow.dashboard.cache.maximum-size:10000}") long maximumSize,
+                          @Value("${moneyflow.dashboard.cache.current-period-ttl:5m}") Duration currentPeriodTtl,
+                          @Value("${moneyflow.dashboard.cache.closed-period-ttl:24h}") Duration closedPeriodTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PeriodExpiry(currentPeriodTtl, closedPeriodTtl))
+                .removalListener(this::onEntryRemoved)
+                .recordStats()
+                .build();
+        // O índice vive pelo menos tanto quanto as entradas do usuário; ao sair, leva as entradas junto
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(closedPeriodTtl)
+                .removalListener((Long userId, UserIndex index, RemovalCause cause) -> {
+                    if (index != null) {
+                        cache.invalidateAll(index.keys);
+                    }
+                })
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "dashboard");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, Supplier<T> loader, Predicate<T> cacheable) {
+        UserIndex index = users.get(key.userId(), id -> new UserIndex());
+        T cached = (T) cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = index.generation;
+        T value = loader.get();
+        if (value != null && cacheable.test(value)) {
+            synchronized (index) {
+                if (index.generation == generation && users.getIfPresent(key.userId()) == index) {
+                    index.keys.add(key);
+                    cache.put(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Invalida os períodos afetados por uma transação na data informada:
+     * o resumo e o comparativo do mês, o comparativo do mês seguinte e a visão anual.
+     */
+    public void evictTransactionDate(Long userId, LocalDate date) {
+        if (date == null) {
+            return;
+        }
+        YearMonth yearMonth = YearMonth.from(date);
+        YearMonth nextMonth = yearMonth.plusMonths(1);
+
+        afterCommit(() -> invalidate(userId, List.of(
+                key(userId, Endpoint.SUMMARY, yearMonth),
+                key(userId, Endpoint.COMPARISON, yearMonth),
+                key(userId, Endpoint.COMPARISON, nextMonth),
+                new Key(userId, Endpoint.YEARLY_OVERVIEW, yearMonth.getYear(), 0))));
+    }
+
+    public void evictBudgetPeriod(Long userId, Integer month, Integer year) {
+        afterCommit(() -> invalidate(userId, List.of(new Key(userId, Endpoint.SUMMARY, year, month))));
+    }
+
+    public void evictUser(Long userId) {
+        afterCommit(() -> invalidate(userId, null));
+    }
+
+    public static Key key(Long userId, Endpoint endpoint, YearMonth yearMonth) {
+        return new Key(userId, endpoint, yearMonth.getYear(), yearMonth.getMonthValue());
+    }
+
+    /**
+     * Invalida as chaves informadas (ou todas as do usuário, se nulas) e avança a geração do usuário,
+     * descartando carregamentos em andamento.
+     */
+    private void invalidate(Long userId, List<Key> keys) {
+        UserIndex index = users.getIfPresent(userId);
+        if (index == null) {
+            if (keys != null) {
+                cache.invalidateAll(keys);
+            }
+            return;
+        }
+        synchronized (index) {
+            index.generation++;
+            List<Key> evicted = keys != null ? keys : List.copyOf(index.keys);
+            evicted.forEach(index.keys::remove);
+            cache.invalidateAll(evicted);
+        }
+    }
+
+    private void onEntryRemoved(Key key, Object value, RemovalCause cause) {
+        if (key != null && cause != RemovalCause.REPLACED) {
+            UserIndex index = users.getIfPresent(key.userId());
+            if (index != null) {
+                index.keys.remove(key);
+            }
+        }
+    }
+
+    private static final class UserIndex {
+        private final Set<Key> keys = ConcurrentHashMap.newKeySet();
+        private volatile long generation;
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private record PeriodExpiry(Duration currentPeriodTtl, Duration closedPeriodTtl) implements Expiry<Key, Object> {
+
+        @Override
+        public long expireAfterCreate(Key key, Object value, long currentTime) {
+            return ttlFor(key).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, Object value, long currentTime, long currentDuration) {
+            return ttlFor(key).toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private Duration ttlFor(Key key) {
+            YearMonth now = YearMonth.now();
+            boolean closed = key.month() == 0
+                    ? key.year() < now.getYear()
+                    : YearMonth.of(key.year(), key.month()).isBefore(now);
+            return closed ? closedPeriodTtl : currentPeriodTtl;
+        }
+    }
+}
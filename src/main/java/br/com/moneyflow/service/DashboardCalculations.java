@@ -0,0 +1,100 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.model.dto.dashboard.MonthDataDTO;
+import br.com.moneyflow.model.dto.dashboard.TrendDTO;
+import br.com.moneyflow.model.dto.dashboard.VariationDTO;
+import br.com.moneyflow.model.dto.dashboard.YearlyOverviewDTO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Cálculos de variação e tendência do dashboard, sem dependência de repositórios ou cache.
+ */
+final class DashboardCalculations {
+
+    private DashboardCalculations() {
+    }
+
+    static VariationDTO variation(BigDecimal previous, BigDecimal current) {
+        BigDecimal absolute = current.subtract(previous);
+        BigDecimal percentage = BigDecimal.ZERO;
+
+        if (previous.compareTo(BigDecimal.ZERO) != 0) {
+            percentage = absolute
+                    .multiply(BigDecimal.valueOf(100))
+                    .divide(previous, 2, RoundingMode.HALF_UP);
+        } else if (current.compareTo(BigDecimal.ZERO) > 0) {
+            percentage = BigDecimal.valueOf(100); // De zero para algo = 100% de aumento
+        }
+
+        return new VariationDTO(absolute, percentage);
+    }
+
+    static TrendDTO trend(List<MonthDataDTO> monthlyData, boolean isIncome) {
+        List<MonthDataDTO> dataWithMovement = monthlyData.stream()
+                .filter(m -> m.income().compareTo(BigDecimal.ZERO) > 0 ||
+                             m.expense().compareTo(BigDecimal.ZERO) > 0)
+                .collect(Collectors.toList());
+
+        if (dataWithMovement.size() < 2) {
+            return new TrendDTO(
+                    YearlyOverviewDTO.TrendDirection.STABLE,
+                    BigDecimal.ZERO,
+                    "Dados insuficientes para calcular tendência"
+            );
+        }
+
+        int midPoint = dataWithMovement.size() / 2;
+
+        BigDecimal firstHalfAvg = BigDecimal.ZERO;
+        BigDecimal secondHalfAvg = BigDecimal.ZERO;
+
+        for (int i = 0; i < midPoint; i++) {
+            MonthDataDTO m = dataWithMovement.get(i);
+            firstHalfAvg = firstHalfAvg.add(isIncome ? m.income() : m.expense());
+        }
+
+        for (int i = midPoint; i < dataWithMovement.size(); i++) {
+            MonthDataDTO m = dataWithMovement.get(i);
+            secondHalfAvg = secondHalfAvg.add(isIncome ? m.income() : m.expense());
+        }
+
+        if (midPoint > 0) {
+            firstHalfAvg = firstHalfAvg.divide(BigDecimal.valueOf(midPoint), 2, RoundingMode.HALF_UP);
+        }
+
+        int secondHalfCount = dataWithMovement.size() - midPoint;
+        if (secondHalfCount > 0) {
+            secondHalfAvg = secondHalfAvg.divide(BigDecimal.valueOf(secondHalfCount), 2, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal change = secondHalfAvg.subtract(firstHalfAvg);
+        BigDecimal percentageChange = BigDecimal.ZERO;
+
+        if (firstHalfAvg.compareTo(BigDecimal.ZERO) != 0) {
+            percentageChange = change
+                    .multiply(BigDecimal.valueOf(100))
+                    .divide(firstHalfAvg, 2, RoundingMode.HALF_UP);
+        }
+
+        YearlyOverviewDTO.TrendDirection direction;
+        String description;
+        String type = isIncome ? "receitas" : "despesas";
+
+        if (percentageChange.compareTo(BigDecimal.valueOf(5)) > 0) {
+            direction = YearlyOverviewDTO.TrendDirection.INCREASING;
+            description = String.format("As %s estão aumentando (%.1f%%)", type, percentageChange);
+        } else if (percentageChange.compareTo(BigDecimal.valueOf(-5)) < 0) {
+            direction = YearlyOverviewDTO.TrendDirection.DECREASING;
+            description = String.format("As %s estão diminuindo (%.1f%%)", type, percentageChange.abs());
+        } else {
+            direction = YearlyOverviewDTO.TrendDirection.STABLE;
+            description = String.format("As %s estão estáveis", type);
+        }
+
+        return new TrendDTO(direction, percentageChange, description);
+    }
+}
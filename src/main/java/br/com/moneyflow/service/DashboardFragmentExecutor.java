@@ -0,0 +1,132 @@
+package br.com.moneyflow.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Executa leituras independentes do dashboard em paralelo, cada uma em virtual thread própria
+ * e com sua própria transação somente leitura. Fragmentos que falham ou estouram o prazo
+ * retornam o valor padrão e marcam o lote como parcial.
+ * Cada fragmento ocupa uma conexão do pool, então o número de fragmentos simultâneos é limitado
+ * (por padrão, metade do pool) e cada transação recebe um statement_timeout igual ao prazo restante,
+ * para que o banco interrompa a consulta em vez de depender do cancelamento da thread.
+ */
+@Component
+@Slf4j
+public class DashboardFragmentExecutor {
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final JdbcTemplate jdbcTemplate;
+    private final Semaphore connectionPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${moneyflow.dashboard.fragment-timeout-ms:2000}")
+    private long timeoutMs;
+
+    public DashboardFragmentExecutor(PlatformTransactionManager transactionManager,
+                                     JdbcTemplate jdbcTemplate,
+                                     @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                     @Value("${moneyflow.dashboard.max-concurrent-fragments:0}") int maxConcurrentFragments) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.jdbcTemplate = jdbcTemplate;
+        this.connectionPermits = new Semaphore(
+                maxConcurrentFragments > 0 ? maxConcurrentFragments : Math.max(1, poolSize / 2), true);
+    }
+
+    public Batch newBatch() {
+        return new Batch(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public final class Batch {
+
+        private final long deadlineNanos;
+        private volatile boolean partial;
+
+        private Batch(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public <T> Fragment<T> submit(String name, Supplier<T> supplier, T fallback) {
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> run(supplier), executor);
+            return new Fragment<>(this, name, future, fallback);
+        }
+
+        public boolean isPartial() {
+            return partial;
+        }
+
+        private long remainingNanos() {
+            return Math.max(0, deadlineNanos - System.nanoTime());
+        }
+
+        private <T> T run(Supplier<T> supplier) {
+            try {
+                if (!connectionPermits.tryAcquire(remainingNanos(), TimeUnit.NANOSECONDS)) {
+                    throw new CompletionException(new TimeoutException("Sem conexão disponível dentro do prazo"));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+
+            try {
+                return readOnlyTransaction.execute(status -> {
+                    long remainingMs = TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+                    if (remainingMs <= 0) {
+                        throw new CompletionException(new TimeoutException("Prazo esgotado antes da consulta"));
+                    }
+                    jdbcTemplate.execute("SET LOCAL statement_timeout = " + remainingMs);
+                    return supplier.get();
+                });
+            } finally {
+                connectionPermits.release();
+            }
+        }
+    }
+
+    public static final class Fragment<T> {
+
+        private final Batch batch;
+        private final String name;
+        private final CompletableFuture<T> future;
+        private final T fallback;
+
+        private Fragment(Batch batch, String name, CompletableFuture<T> future, T fallback) {
+            this.batch = batch;
+            this.name = name;
+            this.future = future;
+            this.fallback = fallback;
+        }
+
+        public T get() {
+            try {
+                T value = future.get(batch.remainingNanos(), TimeUnit.NANOSECONDS);
+                return value != null ? value : fallback;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("Fragmento '{}' do dashboard excedeu o prazo", name);
+            } catch (ExecutionException e) {
+                log.warn("Fragmento '{}' do dashboard falhou: {}", name, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+            }
+            batch.partial = true;
+            return fallback;
+        }
+    }
+}
@@ -3,22 +3,20 @@ package br.com.moneyflow.service;
 import br.com.moneyflow.exception.business.InvalidMonthException;
 import br.com.moneyflow.exception.business.InvalidYearException;
 import br.com.moneyflow.model.dto.budget.BudgetStatusDTO;
-import br.com.moneyflow.model.dto.category.CategorySimpleDTO;
 import br.com.moneyflow.model.dto.dashboard.*;
+import br.com.moneyflow.model.dto.projection.TransactionListProjection;
 import br.com.moneyflow.model.dto.transaction.CategoryExpenseDTO;
 import br.com.moneyflow.model.dto.transaction.TransactionResponseDTO;
-import br.com.moneyflow.model.entity.Transaction;
-import br.com.moneyflow.repository.AlertRepository;
+import br.com.moneyflow.model.entity.TransactionType;
 import br.com.moneyflow.repository.BudgetRepository;
+import br.com.moneyflow.repository.MonthlyCategoryTotalRepository;
 import br.com.moneyflow.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDate;
 import java.time.Year;
 import java.time.YearMonth;
 import java.util.*;
@@ -30,32 +28,40 @@ public class DashboardService {
 
     private final TransactionRepository transactionRepository;
     private final BudgetRepository budgetRepository;
-    private final AlertRepository alertRepository;
+    private final UnreadAlertCounter unreadAlertCounter;
+    private final MonthlyCategoryTotalRepository monthlyCategoryTotalRepository;
+    private final DashboardFragmentExecutor fragmentExecutor;
+    private final DashboardCache dashboardCache;
 
-    @Transactional(readOnly = true)
     public MonthlySummaryDTO getMonthlySummary(Long userId, Integer month, Integer year) {
         validateMonth(month);
         validateYear(year);
 
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+        YearMonth yearMonth = YearMonth.of(year, month);
 
-        BigDecimal totalIncome = transactionRepository.sumIncomeByPeriod(userId, startDate, endDate);
-        BigDecimal totalExpense = transactionRepository.sumExpensesByPeriod(userId, startDate, endDate);
+        DashboardFragmentExecutor.Batch batch = fragmentExecutor.newBatch();
+        var recentFragment = batch.submit("recentTransactions",
+                () -> getRecentTransactions(userId, 5), List.<TransactionResponseDTO>of());
 
-        if (totalIncome == null) totalIncome = BigDecimal.ZERO;
-        if (totalExpense == null) totalExpense = BigDecimal.ZERO;
+        PeriodSummary period = dashboardCache.get(
+                DashboardCache.key(userId, DashboardCache.Endpoint.SUMMARY, yearMonth),
+                () -> loadPeriodSummary(userId, yearMonth),
+                p -> !p.partial());
 
-        BigDecimal balance = totalIncome.subtract(totalExpense);
+        MonthDataDTO monthData = period.monthData();
+
+        BigDecimal totalIncome = monthData.income();
+        BigDecimal totalExpense = monthData.expense();
+        BigDecimal balance = monthData.balance();
         BigDecimal savingsRate = calculateSavingsRate(totalIncome, totalExpense);
 
-        List<CategoryExpenseDTO> expensesByCategory = getExpensesByCategory(userId, startDate, endDate, totalExpense);
+        List<CategoryExpenseDTO> expensesByCategory = period.expensesByCategory();
 
-        List<BudgetStatusDTO> budgetStatus = getBudgetStatus(userId, month, year);
+        List<BudgetStatusDTO> budgetStatus = period.budgetStatus();
 
-        Long activeAlertsCount = alertRepository.countByUserIdAndReadFalse(userId);
+        Long activeAlertsCount = unreadAlertCounter.get(userId);
 
-        List<TransactionResponseDTO> recentTransactions = getRecentTransactions(userId, 5);
+        List<TransactionResponseDTO> recentTransactions = recentFragment.get();
 
         return new MonthlySummaryDTO(
                 month,
@@ -67,31 +73,74 @@ public class DashboardService {
                 expensesByCategory,
                 budgetStatus,
                 activeAlertsCount,
-                recentTransactions
+                recentTransactions,
+                period.partial() || batch.isPartial()
         );
     }
 
-    @Transactional(readOnly = true)
     public MonthlyComparisonDTO getMonthlyComparison(Long userId, Integer month, Integer year) {
         validateMonth(month);
         validateYear(year);
 
         YearMonth currentYearMonth = YearMonth.of(year, month);
+
+        return dashboardCache.get(
+                DashboardCache.key(userId, DashboardCache.Endpoint.COMPARISON, currentYearMonth),
+                () -> loadMonthlyComparison(userId, currentYearMonth),
+                comparison -> !comparison.partial());
+    }
+
+    public YearlyOverviewDTO getYearlyOverview(Long userId, Integer year) {
+        validateYear(year);
+
+        return dashboardCache.get(
+                new DashboardCache.Key(userId, DashboardCache.Endpoint.YEARLY_OVERVIEW, year, 0),
+                () -> loadYearlyOverview(userId, year),
+                overview -> true);
+    }
+
+    private PeriodSummary loadPeriodSummary(Long userId, YearMonth yearMonth) {
+        DashboardFragmentExecutor.Batch batch = fragmentExecutor.newBatch();
+        var monthDataFragment = batch.submit("monthData",
+                () -> getMonthData(userId, yearMonth), emptyMonthData(yearMonth));
+        var categoriesFragment = batch.submit("expensesByCategory",
+                () -> findExpensesByCategory(userId, yearMonth), List.<TransactionRepository.CategoryExpenseProjection>of());
+        var budgetStatusFragment = batch.submit("budgetStatus",
+                () -> getBudgetStatus(userId, yearMonth.getMonthValue(), yearMonth.getYear()), List.<BudgetStatusDTO>of());
+
+        MonthDataDTO monthData = monthDataFragment.get();
+        List<CategoryExpenseDTO> expensesByCategory = toCategoryExpenseDTOs(categoriesFragment.get(), monthData.expense());
+        List<BudgetStatusDTO> budgetStatus = budgetStatusFragment.get();
+
+        return new PeriodSummary(monthData, expensesByCategory, budgetStatus, batch.isPartial());
+    }
+
+    private MonthlyComparisonDTO loadMonthlyComparison(Long userId, YearMonth currentYearMonth) {
         YearMonth previousYearMonth = currentYearMonth.minusMonths(1);
 
-        MonthDataDTO currentMonthData = getMonthData(userId, currentYearMonth);
+        DashboardFragmentExecutor.Batch batch = fragmentExecutor.newBatch();
+        var currentMonthFragment = batch.submit("currentMonth",
+                () -> getMonthData(userId, currentYearMonth), emptyMonthData(currentYearMonth));
+        var previousMonthFragment = batch.submit("previousMonth",
+                () -> getMonthData(userId, previousYearMonth), emptyMonthData(previousYearMonth));
+        var currentCategoriesFragment = batch.submit("currentCategories",
+                () -> findExpensesByCategory(userId, currentYearMonth), List.<TransactionRepository.CategoryExpenseProjection>of());
+        var previousCategoriesFragment = batch.submit("previousCategories",
+                () -> findExpensesByCategory(userId, previousYearMonth), List.<TransactionRepository.CategoryExpenseProjection>of());
 
-        MonthDataDTO previousMonthData = getMonthData(userId, previousYearMonth);
+        MonthDataDTO currentMonthData = currentMonthFragment.get();
 
-        VariationDTO incomeVariation = calculateVariation(
+        MonthDataDTO previousMonthData = previousMonthFragment.get();
+
+        VariationDTO incomeVariation = DashboardCalculations.variation(
                 previousMonthData.income(), currentMonthData.income());
-        VariationDTO expenseVariation = calculateVariation(
+        VariationDTO expenseVariation = DashboardCalculations.variation(
                 previousMonthData.expense(), currentMonthData.expense());
-        VariationDTO balanceVariation = calculateVariation(
+        VariationDTO balanceVariation = DashboardCalculations.variation(
                 previousMonthData.balance(), currentMonthData.balance());
 
         List<CategoryVariationDTO> categoryVariations = getCategoryVariations(
-                userId, previousYearMonth, currentYearMonth);
+                previousCategoriesFragment.get(), currentCategoriesFragment.get());
 
         List<CategoryVariationDTO> biggestIncreases = categoryVariations.stream()
                 .filter(cv -> cv.absoluteVariation().compareTo(BigDecimal.ZERO) > 0)
@@ -112,29 +161,18 @@ public class DashboardService {
                 expenseVariation,
                 balanceVariation,
                 biggestIncreases,
-                biggestDecreases
+                biggestDecreases,
+                batch.isPartial()
         );
     }
 
-    @Transactional(readOnly = true)
-    public YearlyOverviewDTO getYearlyOverview(Long userId, Integer year) {
-        validateYear(year);
-
-        List<MonthDataDTO> monthlyData = new ArrayList<>();
+    private YearlyOverviewDTO loadYearlyOverview(Long userId, Integer year) {
+        List<MonthDataDTO> monthlyData = getMonthlyData(userId, year);
         BigDecimal totalIncome = BigDecimal.ZERO;
         BigDecimal totalExpense = BigDecimal.ZERO;
         int monthsWithData = 0;
 
-        for (int month = 1; month <= 12; month++) {
-            YearMonth yearMonth = YearMonth.of(year, month);
-
-            if (yearMonth.isAfter(YearMonth.now())) {
-                break;
-            }
-
-            MonthDataDTO monthData = getMonthData(userId, yearMonth);
-            monthlyData.add(monthData);
-
+        for (MonthDataDTO monthData : monthlyData) {
             if (monthData.income().compareTo(BigDecimal.ZERO) > 0 ||
                 monthData.expense().compareTo(BigDecimal.ZERO) > 0) {
                 totalIncome = totalIncome.add(monthData.income());
@@ -160,8 +198,8 @@ public class DashboardService {
 
         BigDecimal savingsRate = calculateSavingsRate(totalIncome, totalExpense);
 
-        TrendDTO incomeTrend = calculateTrend(monthlyData, true);
-        TrendDTO expenseTrend = calculateTrend(monthlyData, false);
+        TrendDTO incomeTrend = DashboardCalculations.trend(monthlyData, true);
+        TrendDTO expenseTrend = DashboardCalculations.trend(monthlyData, false);
 
         return new YearlyOverviewDTO(
                 year,
@@ -204,10 +242,14 @@ public class DashboardService {
                 .divide(income, 2, RoundingMode.HALF_UP);
     }
 
-    private List<CategoryExpenseDTO> getExpensesByCategory(Long userId, LocalDate startDate,
-                                                            LocalDate endDate, BigDecimal totalExpense) {
-        var projections = transactionRepository.findExpensesByCategory(userId, startDate, endDate);
+    private List<TransactionRepository.CategoryExpenseProjection> findExpensesByCategory(Long userId,
+                                                                                        YearMonth yearMonth) {
+        return monthlyCategoryTotalRepository.findCategoryTotalsByPeriod(
+                userId, TransactionType.EXPENSE, yearMonth.getYear(), yearMonth.getMonthValue());
+    }
 
+    private List<CategoryExpenseDTO> toCategoryExpenseDTOs(
+            List<TransactionRepository.CategoryExpenseProjection> projections, BigDecimal totalExpense) {
         return projections.stream()
                 .map(p -> {
                     BigDecimal percentage = BigDecimal.ZERO;
@@ -257,44 +299,31 @@ public class DashboardService {
     }
 
     private List<TransactionResponseDTO> getRecentTransactions(Long userId, int limit) {
-        List<Transaction> transactions = transactionRepository.findRecentTransactions(
+        List<TransactionListProjection> transactions = transactionRepository.findRecentTransactions(
                 userId, PageRequest.of(0, limit));
 
         return transactions.stream()
-                .map(this::toTransactionResponseDTO)
+                .map(TransactionResponseMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
-    private TransactionResponseDTO toTransactionResponseDTO(Transaction t) {
-        CategorySimpleDTO categoryDTO = new CategorySimpleDTO(
-                t.getCategory().getId(),
-                t.getCategory().getName(),
-                t.getCategory().getType()
-        );
-
-        return new TransactionResponseDTO(
-                t.getId(),
-                t.getDescription(),
-                t.getAmount(),
-                t.getDate(),
-                t.getType(),
-                categoryDTO,
-                t.getPaymentMethod(),
-                t.getNotes(),
-                t.getCreatedAt(),
-                t.getUpdatedAt()
-        );
-    }
-
     private MonthDataDTO getMonthData(Long userId, YearMonth yearMonth) {
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
+        BigDecimal income = BigDecimal.ZERO;
+        BigDecimal expense = BigDecimal.ZERO;
 
-        BigDecimal income = transactionRepository.sumIncomeByPeriod(userId, startDate, endDate);
-        BigDecimal expense = transactionRepository.sumExpensesByPeriod(userId, startDate, endDate);
+        var totals = monthlyCategoryTotalRepository.findTotalsByPeriod(
+                userId, yearMonth.getYear(), yearMonth.getMonthValue());
 
-        if (income == null) income = BigDecimal.ZERO;
-        if (expense == null) expense = BigDecimal.ZERO;
+        for (MonthlyCategoryTotalRepository.TypeTotalProjection total : totals) {
+            if (total.getTotal() == null) {
+                continue;
+            }
+            if (total.getType() == TransactionType.INCOME) {
+                income = income.add(total.getTotal());
+            } else {
+                expense = expense.add(total.getTotal());
+            }
+        }
 
         BigDecimal balance = income.subtract(expense);
 
@@ -307,36 +336,66 @@ public class DashboardService {
         );
     }
 
-    private VariationDTO calculateVariation(BigDecimal previous, BigDecimal current) {
-        BigDecimal absolute = current.subtract(previous);
-        BigDecimal percentage = BigDecimal.ZERO;
+    /**
+     * Agrega receitas e despesas de todos os meses do ano em uma única consulta ao rollup mensal,
+     * até o mês corrente quando o ano informado é o atual.
+     */
+    private List<MonthDataDTO> getMonthlyData(Long userId, Integer year) {
+        YearMonth now = YearMonth.now();
+        int lastMonth = year < now.getYear() ? 12 : (year == now.getYear() ? now.getMonthValue() : 0);
 
-        if (previous.compareTo(BigDecimal.ZERO) != 0) {
-            percentage = absolute
-                    .multiply(BigDecimal.valueOf(100))
-                    .divide(previous, 2, RoundingMode.HALF_UP);
-        } else if (current.compareTo(BigDecimal.ZERO) > 0) {
-            percentage = BigDecimal.valueOf(100); // De zero para algo = 100% de aumento
+        List<MonthDataDTO> monthlyData = new ArrayList<>();
+        if (lastMonth == 0) {
+            return monthlyData;
         }
 
-        return new VariationDTO(absolute, percentage);
+        BigDecimal[] incomes = new BigDecimal[lastMonth + 1];
+        BigDecimal[] expenses = new BigDecimal[lastMonth + 1];
+        Arrays.fill(incomes, BigDecimal.ZERO);
+        Arrays.fill(expenses, BigDecimal.ZERO);
+
+        var projections = monthlyCategoryTotalRepository.findMonthlyTotalsByYear(userId, year);
+
+        for (TransactionRepository.MonthlyComparisonProjection p : projections) {
+            if (p.getTotal() == null || p.getMonth() == null || p.getMonth() > lastMonth) {
+                continue;
+            }
+            if (p.getType() == TransactionType.INCOME) {
+                incomes[p.getMonth()] = incomes[p.getMonth()].add(p.getTotal());
+            } else {
+                expenses[p.getMonth()] = expenses[p.getMonth()].add(p.getTotal());
+            }
+        }
+
+        for (int month = 1; month <= lastMonth; month++) {
+            monthlyData.add(new MonthDataDTO(
+                    month,
+                    year,
+                    incomes[month],
+                    expenses[month],
+                    incomes[month].subtract(expenses[month])
+            ));
+        }
+
+        return monthlyData;
     }
 
-    private List<CategoryVariationDTO> getCategoryVariations(Long userId,
-                                                              YearMonth previousMonth,
-                                                              YearMonth currentMonth) {
-        Map<Long, TransactionRepository.CategoryExpenseProjection> previousExpenses =
-                transactionRepository.findExpensesByCategoryAndMonth(
-                        userId, previousMonth.getYear(), previousMonth.getMonthValue())
+    private MonthDataDTO emptyMonthData(YearMonth yearMonth) {
+        return new MonthDataDTO(yearMonth.getMonthValue(), yearMonth.getYear(),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    private List<CategoryVariationDTO> getCategoryVariations(
+            List<TransactionRepository.CategoryExpenseProjection> previousProjections,
+            List<TransactionRepository.CategoryExpenseProjection> currentProjections) {
+        Map<Long, TransactionRepository.CategoryExpenseProjection> previousExpenses = previousProjections
                 .stream()
                 .collect(Collectors.toMap(
                         TransactionRepository.CategoryExpenseProjection::getCategoryId,
                         p -> p
                 ));
 
-        Map<Long, TransactionRepository.CategoryExpenseProjection> currentExpenses =
-                transactionRepository.findExpensesByCategoryAndMonth(
-                        userId, currentMonth.getYear(), currentMonth.getMonthValue())
+        Map<Long, TransactionRepository.CategoryExpenseProjection> currentExpenses = currentProjections
                 .stream()
                 .collect(Collectors.toMap(
                         TransactionRepository.CategoryExpenseProjection::getCategoryId,
@@ -398,69 +457,14 @@ public class DashboardService {
                 .orElse(null);
     }
 
-    private TrendDTO calculateTrend(List<MonthDataDTO> monthlyData, boolean isIncome) {
-        List<MonthDataDTO> dataWithMovement = monthlyData.stream()
-                .filter(m -> m.income().compareTo(BigDecimal.ZERO) > 0 ||
-                             m.expense().compareTo(BigDecimal.ZERO) > 0)
-                .collect(Collectors.toList());
-
-        if (dataWithMovement.size() < 2) {
-            return new TrendDTO(
-                    YearlyOverviewDTO.TrendDirection.STABLE,
-                    BigDecimal.ZERO,
-                    "Dados insuficientes para calcular tendência"
-            );
-        }
-
-        int midPoint = dataWithMovement.size() / 2;
-
-        BigDecimal firstHalfAvg = BigDecimal.ZERO;
-        BigDecimal secondHalfAvg = BigDecimal.ZERO;
-
-        for (int i = 0; i < midPoint; i++) {
-            MonthDataDTO m = dataWithMovement.get(i);
-            firstHalfAvg = firstHalfAvg.add(isIncome ? m.income() : m.expense());
-        }
-
-        for (int i = midPoint; i < dataWithMovement.size(); i++) {
-            MonthDataDTO m = dataWithMovement.get(i);
-            secondHalfAvg = secondHalfAvg.add(isIncome ? m.income() : m.expense());
-        }
-
-        if (midPoint > 0) {
-            firstHalfAvg = firstHalfAvg.divide(BigDecimal.valueOf(midPoint), 2, RoundingMode.HALF_UP);
-        }
-
-        int secondHalfCount = dataWithMovement.size() - midPoint;
-        if (secondHalfCount > 0) {
-            secondHalfAvg = secondHalfAvg.divide(BigDecimal.valueOf(secondHalfCount), 2, RoundingMode.HALF_UP);
-        }
-
-        BigDecimal change = secondHalfAvg.subtract(firstHalfAvg);
-        BigDecimal percentageChange = BigDecimal.ZERO;
-
-        if (firstHalfAvg.compareTo(BigDecimal.ZERO) != 0) {
-            percentageChange = change
-                    .multiply(BigDecimal.valueOf(100))
-                    .divide(firstHalfAvg, 2, RoundingMode.HALF_UP);
-        }
-
-        YearlyOverviewDTO.TrendDirection direction;
-        String description;
-        String type = isIncome ? "receitas" : "despesas";
-
-        if (percentageChange.compareTo(BigDecimal.valueOf(5)) > 0) {
-            direction = YearlyOverviewDTO.TrendDirection.INCREASING;
-            description = String.format("As %s estão aumentando (%.1f%%)", type, percentageChange);
-        } else if (percentageChange.compareTo(BigDecimal.valueOf(-5)) < 0) {
-            direction = YearlyOverviewDTO.TrendDirection.DECREASING;
-            description = String.format("As %s estão diminuindo (%.1f%%)", type, percentageChange.abs());
-        } else {
-            direction = YearlyOverviewDTO.TrendDirection.STABLE;
-            description = String.format("As %s estão estáveis", type);
-        }
-
-        return new TrendDTO(direction, percentageChange, description);
+    /**
+     * Parte do resumo mensal que depende apenas do período e pode ser mantida em cache.
+     */
+    private record PeriodSummary(
+            MonthDataDTO monthData,
+            List<CategoryExpenseDTO> expensesByCategory,
+            List<BudgetStatusDTO> budgetStatus,
+            boolean partial
+    ) {
     }
 }
-
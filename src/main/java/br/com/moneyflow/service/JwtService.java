@@ -1,6 +1,9 @@
 package br.com.moneyflow.service;
 
 import br.com.moneyflow.exception.authorization.InvalidTokenException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
@@ -9,16 +12,38 @@ import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Emissão e validação de JWT. A chave HMAC e o parser são montados uma única vez; tokens já
+ * verificados ficam num LRU limitado (indexado pelo hash SHA-256 do token) até o seu exp,
+ * evitando refazer a verificação da assinatura a cada requisição.
+ */
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret:chave-secreta-para-jwt-token-com-minimo-256-bits-necessarios}")
-    private String secretKey;
+    private final Long expiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
 
-    @Value("${jwt.expiration:86400000}") // 24 horas em milissegundos
-    private Long expiration;
+    public JwtService(@Value("${jwt.secret:chave-secreta-para-jwt-token-com-minimo-256-bits-necessarios}") String secretKey,
+                      @Value("${jwt.expiration:86400000}") Long expiration, // 24 horas em milissegundos
+                      @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedCacheSize) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
+    }
 
     public String generateToken(Long userId) {
         Date now = new Date();
@@ -28,19 +53,53 @@ public class JwtService {
                 .subject(userId.toString())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verifica a assinatura e a validade do token e devolve as claims, numa única passada.
+     */
+    public Claims verifyToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidTokenException("Token vazio ou nulo");
+        }
+
+        String key = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+
+        Claims claims = parse(token);
+        verifiedTokens.put(key, claims);
+        return claims;
+    }
+
     public Long getUserIdFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return Long.parseLong(verifyToken(token).getSubject());
+        } catch (NumberFormatException e) {
+            throw new InvalidTokenException("Token não suportado");
+        }
+    }
 
-            return Long.parseLong(claims.getSubject());
+    public boolean validateToken(String token) {
+        try {
+            verifyToken(token);
+            return true;
+        } catch (InvalidTokenException e) {
+            return false;
+        }
+    }
+
+    public Long getExpirationInSeconds() {
+        return expiration / 1000;
+    }
+
+    private Claims parse(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
         } catch (SignatureException e) {
             throw new InvalidTokenException("Assinatura do token inválida");
         } catch (MalformedJwtException e) {
@@ -56,24 +115,40 @@ public class JwtService {
         }
     }
 
-    public boolean validateToken(String token) {
+    private static boolean isExpired(Claims claims) {
+        Date exp = claims.getExpiration();
+        return exp != null && exp.getTime() <= System.currentTimeMillis();
+    }
+
+    private static String hash(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
         }
     }
 
-    public Long getExpirationInSeconds() {
-        return expiration / 1000;
-    }
+    private static final class UntilTokenExpiration implements Expiry<String, Claims> {
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date exp = claims.getExpiration();
+            if (exp == null) {
+                return 0;
+            }
+            long remainingMillis = exp.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
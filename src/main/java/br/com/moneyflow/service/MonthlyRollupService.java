@@ -0,0 +1,110 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.model.entity.Transaction;
+import br.com.moneyflow.model.entity.TransactionType;
+import br.com.moneyflow.repository.CategoryRepository;
+import br.com.moneyflow.repository.MonthlyCategoryTotalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mantém a tabela monthly_category_totals e os contadores de uso das categorias
+ * (transaction_count, last_used_date) sincronizados com as transações ativas.
+ * Os deltas são aplicados na mesma transação da escrita que os originou.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MonthlyRollupService {
+
+    private final MonthlyCategoryTotalRepository monthlyCategoryTotalRepository;
+    private final CategoryRepository categoryRepository;
+    private final DashboardCache dashboardCache;
+
+    @Transactional
+    public void addTransaction(Transaction transaction) {
+        applyDelta(transaction.getUser().getId(), transaction.getCategory().getId(),
+                transaction.getDate(), transaction.getType(), transaction.getAmount(), 1);
+        if (transaction.getDate() != null) {
+            categoryRepository.incrementUsage(transaction.getCategory().getId(), 1, transaction.getDate());
+        }
+    }
+
+    /**
+     * Aplica os deltas de um lote agregados por (categoria, mês, tipo): um upsert por chave
+     * em vez de um por transação.
+     */
+    @Transactional
+    public void addTransactions(Long userId, List<Transaction> transactions) {
+        Map<DeltaKey, BigDecimal> amounts = new HashMap<>();
+        Map<DeltaKey, Long> counts = new HashMap<>();
+        Map<Long, Long> usageCounts = new HashMap<>();
+        Map<Long, LocalDate> lastDates = new HashMap<>();
+
+        for (Transaction transaction : transactions) {
+            DeltaKey key = new DeltaKey(transaction.getCategory().getId(),
+                    transaction.getDate().getYear(), transaction.getDate().getMonthValue(), transaction.getType());
+            amounts.merge(key, transaction.getAmount(), BigDecimal::add);
+            counts.merge(key, 1L, Long::sum);
+            usageCounts.merge(key.categoryId(), 1L, Long::sum);
+            lastDates.merge(key.categoryId(), transaction.getDate(), (a, b) -> a.isAfter(b) ? a : b);
+        }
+
+        amounts.forEach((key, amount) -> monthlyCategoryTotalRepository.applyDelta(
+                userId, key.categoryId(), key.year(), key.month(), key.type().name(), amount, counts.get(key)));
+        usageCounts.forEach((categoryId, count) -> categoryRepository.incrementUsage(
+                categoryId, count, lastDates.get(categoryId)));
+    }
+
+    @Transactional
+    public void removeTransaction(Long userId, Long categoryId, LocalDate date,
+                                  TransactionType type, BigDecimal amount) {
+        applyDelta(userId, categoryId, date, type, amount, -1);
+        if (date != null) {
+            categoryRepository.decrementUsage(categoryId, date);
+        }
+    }
+
+    @Transactional
+    public void rebuild(Long userId) {
+        monthlyCategoryTotalRepository.deleteByUserId(userId);
+        int rows = monthlyCategoryTotalRepository.rebuildByUserId(userId);
+        categoryRepository.rebuildUsageByUserId(userId);
+        dashboardCache.evictUser(userId);
+        log.info("Rollup mensal reconstruído para usuário {}: {} linhas", userId, rows);
+    }
+
+    @Transactional(readOnly = true)
+    public long verify(Long userId) {
+        return monthlyCategoryTotalRepository.countDriftByUserId(userId);
+    }
+
+    private void applyDelta(Long userId, Long categoryId, LocalDate date,
+                            TransactionType type, BigDecimal amount, int sign) {
+        if (date == null || amount == null) {
+            return;
+        }
+
+        BigDecimal signedAmount = sign < 0 ? amount.negate() : amount;
+
+        monthlyCategoryTotalRepository.applyDelta(
+                userId,
+                categoryId,
+                date.getYear(),
+                date.getMonthValue(),
+                type.name(),
+                signedAmount,
+                sign);
+    }
+
+    private record DeltaKey(Long categoryId, int year, int month, TransactionType type) {
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.moneyflow.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Extrato OFX (SGML 1.x ou XML 2.x). Cada bloco STMTTRN vira uma linha: o sinal de TRNAMT
+ * define o tipo e DTPOSTED a data. O arquivo é percorrido tag a tag, sem montar a árvore.
+ */
+class OfxTransactionImportReader implements TransactionImportReader {
+
+    private final BufferedReader reader;
+    private int transactionNumber;
+
+    OfxTransactionImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Row next() throws IOException {
+        Map<String, String> fields = null;
+
+        String tag;
+        while ((tag = nextTag()) != null) {
+            if (tag.equals("STMTTRN")) {
+                fields = new HashMap<>();
+            } else if (tag.equals("/STMTTRN") && fields != null) {
+                return toRow(fields);
+            } else if (fields != null && !tag.startsWith("/")) {
+                fields.put(tag, readValue());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Row toRow(Map<String, String> fields) {
+        transactionNumber++;
+
+        String amount = fields.get("TRNAMT");
+        String type = null;
+        if (amount != null) {
+            amount = amount.replace(',', '.');
+            try {
+                BigDecimal value = new BigDecimal(amount);
+                type = value.signum() < 0 ? "EXPENSE" : "INCOME";
+                amount = value.abs().toPlainString();
+            } catch (NumberFormatException e) {
+                // mantém o texto original para que a validação reporte o erro
+            }
+        }
+
+        String date = fields.get("DTPOSTED");
+        if (date != null && date.length() >= 8) {
+            date = date.substring(0, 4) + "-" + date.substring(4, 6) + "-" + date.substring(6, 8);
+        }
+
+        String description = fields.get("MEMO");
+        if (description == null || description.isBlank()) {
+            description = fields.get("NAME");
+        }
+
+        return new Row(transactionNumber, date, description, amount, type, null, null, null);
+    }
+
+    private String nextTag() throws IOException {
+        int c;
+        while ((c = reader.read()) != -1 && c != '<') {
+            // ignora conteúdo fora de tags
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        StringBuilder tag = new StringBuilder();
+        while ((c = reader.read()) != -1 && c != '>') {
+            tag.append((char) c);
+        }
+        return tag.toString().trim().toUpperCase(Locale.ROOT);
+    }
+
+    private String readValue() throws IOException {
+        StringBuilder value = new StringBuilder();
+        reader.mark(1);
+        int c;
+        while ((c = reader.read()) != -1 && c != '<') {
+            value.append((char) c);
+            reader.mark(1);
+        }
+        if (c == '<') {
+            reader.reset();
+        }
+        String trimmed = value.toString().trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.repository.AdvisoryLockRepository;
+import br.com.moneyflow.repository.RetentionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Retenção periódica de dados antigos.
+ * Regras:
+ * 1. Apenas um nó executa por vez (trava consultiva do PostgreSQL); os demais pulam a execução
+ * 2. Os usuários são percorridos em blocos ordenados por id
+ * 3. Alertas lidos mais antigos que read-alerts-age são excluídos
+ * 4. Transações excluídas logicamente há mais que deleted-transactions-grace são excluídas definitivamente
+ *    (o rollup mensal já as desconsidera desde a exclusão lógica)
+ * 5. Cada DELETE é limitado a batch-size linhas, com pausa entre lotes para não segurar locks
+ */
+@Service
+@ConditionalOnProperty(name = "moneyflow.retention.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class RetentionService {
+
+    // Chave da trava consultiva (pg_try_advisory_lock) exclusiva da retenção
+    private static final long ADVISORY_LOCK_KEY = 0x4D46_5245_544EL;
+
+    public record RetentionReport(int usersScanned, long alertsPurged, long transactionsPurged, Duration elapsed) {
+    }
+
+    private final RetentionRepository retentionRepository;
+    private final AdvisoryLockRepository advisoryLockRepository;
+    private final Counter alertsPurged;
+    private final Counter transactionsPurged;
+    private final Timer runTimer;
+    private final int userChunkSize;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final Duration readAlertsAge;
+    private final Duration deletedTransactionsGrace;
+
+    public RetentionService(RetentionRepository retentionRepository,
+                            AdvisoryLockRepository advisoryLockRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${moneyflow.retention.user-chunk-size:500}") int userChunkSize,
+                            @Value("${moneyflow.retention.batch-size:1000}") int batchSize,
+                            @Value("${moneyflow.retention.batch-pause:50ms}") Duration batchPause,
+                            @Value("${moneyflow.retention.read-alerts-age:90d}") Duration readAlertsAge,
+                            @Value("${moneyflow.retention.deleted-transactions-grace:30d}") Duration deletedTransactionsGrace) {
+        this.retentionRepository = retentionRepository;
+        this.advisoryLockRepository = advisoryLockRepository;
+        this.userChunkSize = userChunkSize;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.readAlertsAge = readAlertsAge;
+        this.deletedTransactionsGrace = deletedTransactionsGrace;
+        this.alertsPurged = Counter.builder("moneyflow.retention.purged")
+                .tag("table", "alerts")
+                .description("Linhas excluídas pela retenção")
+                .register(meterRegistry);
+        this.transactionsPurged = Counter.builder("moneyflow.retention.purged")
+                .tag("table", "transactions")
+                .description("Linhas excluídas pela retenção")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("moneyflow.retention.run")
+                .description("Duração de cada execução da retenção")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${moneyflow.retention.cron:0 30 3 * * *}")
+    public void runScheduled() {
+        advisoryLockRepository.runWithAdvisoryLock(ADVISORY_LOCK_KEY, this::purge)
+                .ifPresentOrElse(
+                        report -> log.info("Retenção concluída: {} usuários, {} alertas e {} transações excluídos em {} ms",
+                                report.usersScanned(), report.alertsPurged(), report.transactionsPurged(),
+                                report.elapsed().toMillis()),
+                        () -> log.info("Retenção ignorada: outra instância está executando"));
+    }
+
+    RetentionReport purge() {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime alertCutoff = now.minus(readAlertsAge);
+        LocalDateTime transactionCutoff = now.minus(deletedTransactionsGrace);
+
+        int usersScanned = 0;
+        long alerts = 0;
+        long transactions = 0;
+        long lastUserId = 0;
+
+        List<Long> userIds;
+        do {
+            userIds = retentionRepository.findUserIdsAfter(lastUserId, userChunkSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            usersScanned += userIds.size();
+            lastUserId = userIds.getLast();
+
+            List<Long> chunk = userIds;
+            alerts += deleteInBatches(limit -> retentionRepository.deleteReadAlerts(chunk, alertCutoff, limit),
+                    alertsPurged);
+            transactions += deleteInBatches(limit -> retentionRepository.deleteSoftDeletedTransactions(
+                    chunk, transactionCutoff, limit), transactionsPurged);
+        } while (userIds.size() == userChunkSize && !Thread.currentThread().isInterrupted());
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        runTimer.record(elapsed);
+        return new RetentionReport(usersScanned, alerts, transactions, elapsed);
+    }
+
+    private long deleteInBatches(IntUnaryOperator deleteBatch, Counter counter) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = deleteBatch.applyAsInt(batchSize);
+            total += deleted;
+            counter.increment(deleted);
+        } while (deleted == batchSize && pause());
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
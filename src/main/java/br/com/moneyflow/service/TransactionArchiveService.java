@@ -0,0 +1,128 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.repository.AdvisoryLockRepository;
+import br.com.moneyflow.repository.TransactionArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Arquivamento periódico de transações de anos encerrados.
+ * Regras:
+ * 1. Apenas um nó executa por vez (trava consultiva do PostgreSQL); os demais pulam a execução
+ * 2. São arquivadas as transações ativas com data anterior a 1º de janeiro de (ano atual - keep-closed-years),
+ *    ou seja, o ano corrente e os keep-closed-years anos encerrados mais recentes ficam na tabela quente
+ * 3. A marca d'água é avançada antes de mover qualquer linha, e o job espera o intervalo de
+ *    atualização dos nós (TransactionArchiveWatermark) para que todas as leituras já incluam o arquivo
+ * 4. Os usuários são percorridos em blocos; cada lote move no máximo batch-size linhas, com pausa entre lotes
+ * 5. O rollup mensal não muda: a transação continua existindo, apenas em outra tabela
+ */
+@Service
+@ConditionalOnProperty(name = "moneyflow.archive.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class TransactionArchiveService {
+
+    // Chave da trava consultiva (pg_try_advisory_lock) exclusiva do arquivamento
+    private static final long ADVISORY_LOCK_KEY = 0x4D46_4152_4348L;
+
+    public record ArchiveReport(LocalDate archivedBefore, int usersScanned, long transactionsMoved, Duration elapsed) {
+    }
+
+    private final TransactionArchiveRepository transactionArchiveRepository;
+    private final AdvisoryLockRepository advisoryLockRepository;
+    private final TransactionArchiveWatermark watermark;
+    private final Counter transactionsMoved;
+    private final Timer runTimer;
+    private final int keepClosedYears;
+    private final int userChunkSize;
+    private final int batchSize;
+    private final Duration batchPause;
+
+    public TransactionArchiveService(TransactionArchiveRepository transactionArchiveRepository,
+                                     AdvisoryLockRepository advisoryLockRepository,
+                                     TransactionArchiveWatermark watermark,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${moneyflow.archive.keep-closed-years:2}") int keepClosedYears,
+                                     @Value("${moneyflow.archive.user-chunk-size:500}") int userChunkSize,
+                                     @Value("${moneyflow.archive.batch-size:1000}") int batchSize,
+                                     @Value("${moneyflow.archive.batch-pause:50ms}") Duration batchPause) {
+        this.transactionArchiveRepository = transactionArchiveRepository;
+        this.advisoryLockRepository = advisoryLockRepository;
+        this.watermark = watermark;
+        this.keepClosedYears = keepClosedYears;
+        this.userChunkSize = userChunkSize;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.transactionsMoved = Counter.builder("moneyflow.archive.moved")
+                .description("Transações movidas para transactions_archive")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("moneyflow.archive.run")
+                .description("Duração de cada execução do arquivamento")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${moneyflow.archive.cron:0 0 4 * * *}")
+    public void runScheduled() {
+        advisoryLockRepository.runWithAdvisoryLock(ADVISORY_LOCK_KEY, this::archive)
+                .ifPresentOrElse(
+                        report -> log.info("Arquivamento concluído: {} transações anteriores a {} movidas ({} usuários) em {} ms",
+                                report.transactionsMoved(), report.archivedBefore(), report.usersScanned(),
+                                report.elapsed().toMillis()),
+                        () -> log.info("Arquivamento ignorado: outra instância está executando"));
+    }
+
+    ArchiveReport archive() {
+        long start = System.nanoTime();
+        LocalDate archivedBefore = LocalDate.of(LocalDate.now().getYear() - keepClosedYears, 1, 1);
+
+        transactionArchiveRepository.advanceWatermark(archivedBefore);
+        // Garante que todos os nós já releram a marca d'água antes de a primeira linha sair da tabela quente
+        if (!sleep(watermark.refreshInterval().multipliedBy(2))) {
+            return new ArchiveReport(archivedBefore, 0, 0, Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        int usersScanned = 0;
+        long moved = 0;
+        long lastUserId = 0;
+
+        List<Long> userIds;
+        do {
+            userIds = transactionArchiveRepository.findUserIdsAfter(lastUserId, userChunkSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            usersScanned += userIds.size();
+            lastUserId = userIds.getLast();
+
+            int batch;
+            do {
+                batch = transactionArchiveRepository.moveBatch(userIds, archivedBefore, batchSize);
+                moved += batch;
+                transactionsMoved.increment(batch);
+            } while (batch == batchSize && sleep(batchPause));
+        } while (userIds.size() == userChunkSize && !Thread.currentThread().isInterrupted());
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        runTimer.record(elapsed);
+        return new ArchiveReport(archivedBefore, usersScanned, moved, elapsed);
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
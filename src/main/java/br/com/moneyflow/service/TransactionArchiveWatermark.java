@@ -0,0 +1,51 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.repository.TransactionArchiveRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Marca d'água do arquivo de transações mantida em memória.
+ * Regras:
+ * 1. transactions_archive só contém transações com data anterior à marca d'água
+ * 2. Consultas cuja data inicial é nula ou anterior à marca d'água leem a visão transaction_history;
+ *    as demais leem apenas a tabela quente
+ * 3. O valor é relido do banco a cada refresh-interval; quem arquiva avança a marca d'água
+ *    e espera mais que esse intervalo antes de mover linhas, então uma cópia desatualizada nunca esconde dados
+ */
+@Component
+public class TransactionArchiveWatermark {
+
+    private final TransactionArchiveRepository transactionArchiveRepository;
+    private final long refreshIntervalNanos;
+
+    private volatile LocalDate archivedBefore;
+    private volatile long loadedAt;
+
+    public TransactionArchiveWatermark(TransactionArchiveRepository transactionArchiveRepository,
+                                       @Value("${moneyflow.archive.watermark-refresh:1m}") Duration refreshInterval) {
+        this.transactionArchiveRepository = transactionArchiveRepository;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.loadedAt = System.nanoTime() - refreshIntervalNanos;
+    }
+
+    public boolean covers(LocalDate startDate) {
+        LocalDate watermark = current();
+        return watermark != null && (startDate == null || startDate.isBefore(watermark));
+    }
+
+    public Duration refreshInterval() {
+        return Duration.ofNanos(refreshIntervalNanos);
+    }
+
+    LocalDate current() {
+        if (System.nanoTime() - loadedAt >= refreshIntervalNanos) {
+            archivedBefore = transactionArchiveRepository.findWatermark().orElse(null);
+            loadedAt = System.nanoTime();
+        }
+        return archivedBefore;
+    }
+}
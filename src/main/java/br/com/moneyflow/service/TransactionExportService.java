@@ -0,0 +1,117 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.model.dto.transaction.TransactionExportDTO;
+import br.com.moneyflow.model.dto.transaction.TransactionExportFormat;
+import br.com.moneyflow.model.dto.transaction.TransactionFilterDTO;
+import br.com.moneyflow.repository.TransactionExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Exporta as transações do usuário em CSV ou NDJSON escrevendo cada linha direto na resposta.
+ * As linhas vêm de um cursor JDBC numa transação somente leitura, então o consumo de memória
+ * não depende do tamanho do histórico. O CSV usa as mesmas colunas aceitas pela importação,
+ * e textos que uma planilha executaria como fórmula são prefixados com apóstrofo.
+ */
+@Service
+@Slf4j
+public class TransactionExportService {
+
+    private static final String CSV_HEADER = "date,description,amount,type,category,paymentMethod,notes";
+
+    private final TransactionExportRepository transactionExportRepository;
+    private final TransactionService transactionService;
+    private final TransactionArchiveWatermark transactionArchiveWatermark;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TransactionExportService(TransactionExportRepository transactionExportRepository,
+                                    TransactionService transactionService,
+                                    TransactionArchiveWatermark transactionArchiveWatermark,
+                                    JsonMapper jsonMapper,
+                                    PlatformTransactionManager transactionManager) {
+        this.transactionExportRepository = transactionExportRepository;
+        this.transactionService = transactionService;
+        this.transactionArchiveWatermark = transactionArchiveWatermark;
+        this.jsonMapper = jsonMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Valida os filtros imediatamente e devolve o corpo a ser escrito de forma assíncrona.
+     */
+    public StreamingResponseBody export(Long userId, TransactionFilterDTO filters, TransactionExportFormat format) {
+        transactionService.validateFilters(userId, filters);
+        boolean includeArchive = transactionArchiveWatermark.covers(filters.startDate());
+
+        return output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            Consumer<TransactionExportDTO> rowWriter = format == TransactionExportFormat.CSV
+                    ? row -> write(writer, toCsv(row))
+                    : row -> write(writer, jsonMapper.writeValueAsString(row));
+
+            if (format == TransactionExportFormat.CSV) {
+                write(writer, CSV_HEADER);
+            }
+
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> transactionExportRepository.streamByFilters(
+                        userId,
+                        filters.categoryId(),
+                        filters.type(),
+                        filters.startDate(),
+                        filters.endDate(),
+                        includeArchive,
+                        rowWriter));
+            } catch (UncheckedIOException e) {
+                log.warn("Exportação do usuário {} interrompida: {}", userId, e.getCause().getMessage());
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+    }
+
+    private void write(Writer writer, String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String toCsv(TransactionExportDTO row) {
+        return String.join(",",
+                row.date().toString(),
+                escape(row.description()),
+                row.amount().toPlainString(),
+                row.type().name(),
+                escape(row.category()),
+                row.paymentMethod().name(),
+                escape(row.notes()));
+    }
+
+    private String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        value = CsvTransactionImportReader.guardFormula(value);
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
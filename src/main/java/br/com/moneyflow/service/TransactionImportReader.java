@@ -0,0 +1,37 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.model.dto.transaction.TransactionImportFormat;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Lê um arquivo de importação linha a linha, sem carregá-lo inteiro em memória.
+ * Os valores são devolvidos como texto e validados pelo {@link TransactionImportService}.
+ */
+interface TransactionImportReader extends Closeable {
+
+    /**
+     * @return a próxima linha do arquivo ou {@code null} ao final
+     */
+    Row next() throws IOException;
+
+    static TransactionImportReader open(TransactionImportFormat format, BufferedReader reader) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvTransactionImportReader(reader);
+            case OFX -> new OfxTransactionImportReader(reader);
+        };
+    }
+
+    record Row(
+            int number,
+            String date,
+            String description,
+            String amount,
+            String type,
+            String category,
+            String paymentMethod,
+            String notes) {
+    }
+}
@@ -0,0 +1,545 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.exception.base.BaseException;
+import br.com.moneyflow.exception.business.ImportLimitExceededException;
+import br.com.moneyflow.exception.business.InvalidAmountException;
+import br.com.moneyflow.exception.business.InvalidDateException;
+import br.com.moneyflow.exception.business.InvalidTransactionTypeException;
+import br.com.moneyflow.exception.business.ValidationException;
+import br.com.moneyflow.exception.resource.CategoryNotFoundException;
+import br.com.moneyflow.exception.resource.TransactionImportNotFoundException;
+import br.com.moneyflow.exception.resource.UserNotFoundException;
+import br.com.moneyflow.model.dto.transaction.TransactionImportErrorDTO;
+import br.com.moneyflow.model.dto.transaction.TransactionImportFormat;
+import br.com.moneyflow.model.dto.transaction.TransactionImportStatus;
+import br.com.moneyflow.model.dto.transaction.TransactionImportStatusDTO;
+import br.com.moneyflow.model.dto.transaction.TransactionRequestDTO;
+import br.com.moneyflow.model.entity.Category;
+import br.com.moneyflow.model.entity.PaymentMethod;
+import br.com.moneyflow.model.entity.Transaction;
+import br.com.moneyflow.model.entity.TransactionType;
+import br.com.moneyflow.model.entity.User;
+import br.com.moneyflow.repository.CategoryRepository;
+import br.com.moneyflow.repository.TransactionBatchRepository;
+import br.com.moneyflow.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Importação em massa de transações a partir de CSV ou OFX.
+ * Regras:
+ * 1. O arquivo é copiado para disco e lido em streaming numa virtual thread
+ * 2. Cada linha passa pelas mesmas validações de createTransaction
+ * 3. Categorias são resolvidas por um mapa carregado uma única vez por importação
+ * 4. Linhas válidas são inseridas em lotes JDBC, com o rollup mensal atualizado no mesmo commit
+ * 5. Alertas de orçamento são agendados uma vez por (categoria, mês) afetado, ao final
+ * O progresso e os erros por linha ficam disponíveis em memória enquanto a importação roda.
+ */
+@Service
+@Slf4j
+public class TransactionImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final DateTimeFormatter BRAZILIAN_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionBatchRepository transactionBatchRepository;
+    private final MonthlyRollupService monthlyRollupService;
+    private final TransactionService transactionService;
+    private final DashboardCache dashboardCache;
+    private final BudgetAlertEvaluator budgetAlertEvaluator;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Cache<String, ImportJob> jobs;
+    private final Map<Long, Integer> activeImports = new ConcurrentHashMap<>();
+    private final int batchSize;
+    private final int maxConcurrentPerUser;
+
+    public TransactionImportService(UserRepository userRepository,
+                                    CategoryRepository categoryRepository,
+                                    TransactionBatchRepository transactionBatchRepository,
+                                    MonthlyRollupService monthlyRollupService,
+                                    TransactionService transactionService,
+                                    DashboardCache dashboardCache,
+                                    BudgetAlertEvaluator budgetAlertEvaluator,
+                                    Validator validator,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${moneyflow.import.batch-size:500}") int batchSize,
+                                    @Value("${moneyflow.import.status-ttl:24h}") Duration statusTtl,
+                                    @Value("${moneyflow.import.max-tracked-jobs:10000}") long maxTrackedJobs,
+                                    @Value("${moneyflow.import.max-concurrent-per-user:2}") int maxConcurrentPerUser) {
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.transactionBatchRepository = transactionBatchRepository;
+        this.monthlyRollupService = monthlyRollupService;
+        this.transactionService = transactionService;
+        this.dashboardCache = dashboardCache;
+        this.budgetAlertEvaluator = budgetAlertEvaluator;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxConcurrentPerUser = maxConcurrentPerUser;
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(maxTrackedJobs)
+                .expireAfterWrite(statusTtl)
+                .build();
+    }
+
+    public TransactionImportStatusDTO startImport(Long userId, MultipartFile file, TransactionImportFormat format,
+                                                  PaymentMethod defaultPaymentMethod,
+                                                  Long defaultIncomeCategoryId, Long defaultExpenseCategoryId) {
+        if (file == null || file.isEmpty()) {
+            throw new ValidationException("Arquivo de importação vazio");
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("Usuário não encontrado com id: " + userId));
+
+        CategoryIndex categories = new CategoryIndex(categoryRepository.findByUserId(userId),
+                defaultIncomeCategoryId, defaultExpenseCategoryId);
+
+        acquireImportSlot(userId);
+        Path tempFile = null;
+        TransactionImportReader reader;
+        try {
+            tempFile = copyToTempFile(file);
+            BufferedReader source = Files.newBufferedReader(tempFile, StandardCharsets.UTF_8);
+            reader = TransactionImportReader.open(format, source);
+        } catch (IOException | RuntimeException e) {
+            releaseImportSlot(userId);
+            if (tempFile != null) {
+                deleteQuietly(tempFile);
+            }
+            if (e instanceof BaseException baseException) {
+                throw baseException;
+            }
+            throw new ValidationException("Não foi possível ler o arquivo de importação");
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), userId, format);
+        jobs.put(job.id, job);
+
+        ImportContext context = new ImportContext(user, categories, defaultPaymentMethod);
+        Path jobFile = tempFile;
+        executor.submit(() -> {
+            try {
+                run(job, reader, context, jobFile);
+            } finally {
+                releaseImportSlot(userId);
+            }
+        });
+
+        log.info("Importação {} iniciada para usuário {} ({})", job.id, userId, format);
+        return job.toDTO();
+    }
+
+    public TransactionImportStatusDTO getImportStatus(Long userId, String importId) {
+        ImportJob job = jobs.getIfPresent(importId);
+
+        if (job == null || !job.userId.equals(userId)) {
+            throw new TransactionImportNotFoundException("Importação não encontrada com id: " + importId);
+        }
+
+        return job.toDTO();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void acquireImportSlot(Long userId) {
+        boolean[] acquired = {false};
+        activeImports.compute(userId, (id, running) -> {
+            int current = running != null ? running : 0;
+            if (current >= maxConcurrentPerUser) {
+                return running;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        if (!acquired[0]) {
+            throw new ImportLimitExceededException(
+                    "Limite de " + maxConcurrentPerUser + " importações simultâneas atingido; aguarde a conclusão");
+        }
+    }
+
+    private void releaseImportSlot(Long userId) {
+        activeImports.computeIfPresent(userId, (id, running) -> running > 1 ? running - 1 : null);
+    }
+
+    private void run(ImportJob job, TransactionImportReader reader, ImportContext context, Path tempFile) {
+        List<Transaction> chunk = new ArrayList<>(batchSize);
+        List<Integer> chunkRows = new ArrayList<>(batchSize);
+        Set<BudgetPeriod> affectedBudgets = new LinkedHashSet<>();
+        Exception failure = null;
+
+        try (reader) {
+            TransactionImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                try {
+                    chunk.add(toTransaction(row, context));
+                    chunkRows.add(row.number());
+                } catch (BaseException e) {
+                    job.rowFailed(row.number(), e.getMessage());
+                }
+                job.rowProcessed();
+
+                if (chunk.size() >= batchSize) {
+                    flush(job, context.user.getId(), chunk, chunkRows, affectedBudgets);
+                }
+            }
+            flush(job, context.user.getId(), chunk, chunkRows, affectedBudgets);
+        } catch (Exception e) {
+            failure = e;
+        } finally {
+            deleteQuietly(tempFile);
+        }
+
+        // Lotes já confirmados permanecem mesmo se a importação for interrompida depois deles:
+        // o dashboard e os alertas de orçamento precisam refletir o que foi gravado
+        if (job.imported > 0) {
+            try {
+                finish(context.user.getId(), affectedBudgets);
+            } catch (RuntimeException e) {
+                failure = failure != null ? failure : e;
+            }
+        }
+
+        if (failure == null) {
+            job.complete(TransactionImportStatus.COMPLETED);
+            log.info("Importação {} concluída: {} importadas, {} com erro",
+                    job.id, job.imported, job.failed);
+        } else {
+            log.error("Importação {} interrompida após {} transações gravadas", job.id, job.imported, failure);
+            job.abort("Importação interrompida: " + failure.getMessage());
+        }
+    }
+
+    private void flush(ImportJob job, Long userId, List<Transaction> chunk, List<Integer> chunkRows,
+                       Set<BudgetPeriod> affectedBudgets) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                transactionBatchRepository.insertAll(chunk);
+                monthlyRollupService.addTransactions(userId, chunk);
+            });
+            job.rowsImported(chunk.size());
+
+            for (Transaction transaction : chunk) {
+                if (transaction.getType() == TransactionType.EXPENSE) {
+                    affectedBudgets.add(new BudgetPeriod(transaction.getCategory().getId(),
+                            YearMonth.from(transaction.getDate())));
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar lote da importação {}: {}", job.id, e.getMessage());
+            for (Integer row : chunkRows) {
+                job.rowFailed(row, "Falha ao gravar o lote desta linha");
+            }
+        }
+
+        chunk.clear();
+        chunkRows.clear();
+    }
+
+    private void finish(Long userId, Set<BudgetPeriod> affectedBudgets) {
+        dashboardCache.evictUser(userId);
+
+        for (BudgetPeriod period : affectedBudgets) {
+            budgetAlertEvaluator.schedule(userId, period.categoryId(),
+                    period.month().getYear(), period.month().getMonthValue());
+        }
+    }
+
+    private Transaction toTransaction(TransactionImportReader.Row row, ImportContext context) {
+        BigDecimal signedAmount = parseAmount(row.amount());
+        Category namedCategory = context.categories.find(row.category());
+        TransactionType type = resolveType(row.type(), signedAmount, namedCategory);
+        Category category = namedCategory != null ? namedCategory : context.categories.defaultFor(type);
+
+        TransactionRequestDTO dto = new TransactionRequestDTO(
+                row.description() != null ? row.description().trim() : null,
+                signedAmount != null ? signedAmount.abs() : null,
+                parseDate(row.date()),
+                type,
+                category.getId(),
+                row.notes(),
+                parsePaymentMethod(row.paymentMethod(), context.defaultPaymentMethod));
+
+        Set<ConstraintViolation<TransactionRequestDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new ValidationException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        transactionService.validateTransactionRules(dto, category.getType());
+
+        if (dto.description().length() > 200) {
+            throw new ValidationException("Descrição deve ter no máximo 200 caracteres");
+        }
+        if (dto.notes() != null && dto.notes().length() > 500) {
+            throw new ValidationException("Observações devem ter no máximo 500 caracteres");
+        }
+
+        Transaction transaction = new Transaction();
+        transaction.setUser(context.user);
+        transaction.setDescription(dto.description());
+        transaction.setAmount(dto.amount());
+        transaction.setDate(dto.date());
+        transaction.setType(dto.type());
+        transaction.setCategory(category);
+        transaction.setPaymentMethod(dto.paymentMethod());
+        transaction.setNotes(dto.notes());
+        return transaction;
+    }
+
+    private TransactionType resolveType(String value, BigDecimal signedAmount, Category namedCategory) {
+        if (value != null) {
+            try {
+                return TransactionType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidTransactionTypeException("Tipo de transação inválido: " + value);
+            }
+        }
+        if (signedAmount != null && signedAmount.signum() < 0) {
+            return TransactionType.EXPENSE;
+        }
+        if (namedCategory != null) {
+            return TransactionType.valueOf(namedCategory.getType().name());
+        }
+        return TransactionType.INCOME;
+    }
+
+    private BigDecimal parseAmount(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        String normalized = value.replace("R$", "").replace(" ", "");
+        int comma = normalized.lastIndexOf(',');
+        int dot = normalized.lastIndexOf('.');
+        if (comma > dot) {
+            normalized = normalized.replace(".", "").replace(',', '.');
+        } else if (comma >= 0) {
+            normalized = normalized.replace(",", "");
+        }
+
+        try {
+            return new BigDecimal(normalized);
+        } catch (NumberFormatException e) {
+            throw new InvalidAmountException("Valor inválido: " + value);
+        }
+    }
+
+    private LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return value.contains("/") ? LocalDate.parse(value, BRAZILIAN_DATE) : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidDateException("Data inválida: " + value);
+        }
+    }
+
+    private PaymentMethod parsePaymentMethod(String value, PaymentMethod defaultPaymentMethod) {
+        if (value == null) {
+            return defaultPaymentMethod;
+        }
+
+        try {
+            return PaymentMethod.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Método de pagamento inválido: " + value);
+        }
+    }
+
+    private Path copyToTempFile(MultipartFile file) {
+        try {
+            Path tempFile = Files.createTempFile("moneyflow-import-", ".tmp");
+            file.transferTo(tempFile);
+            return tempFile;
+        } catch (IOException e) {
+            throw new ValidationException("Não foi possível ler o arquivo de importação");
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o arquivo temporário {}", path);
+        }
+    }
+
+    private record ImportContext(User user, CategoryIndex categories, PaymentMethod defaultPaymentMethod) {
+    }
+
+    private record BudgetPeriod(Long categoryId, YearMonth month) {
+    }
+
+    /**
+     * Categorias do usuário indexadas por id e por nome, carregadas uma vez por importação.
+     */
+    private static final class CategoryIndex {
+
+        private final Map<Long, Category> byId = new HashMap<>();
+        private final Map<String, Category> byName = new HashMap<>();
+        private final Category defaultIncome;
+        private final Category defaultExpense;
+
+        private CategoryIndex(List<Category> categories, Long defaultIncomeId, Long defaultExpenseId) {
+            for (Category category : categories) {
+                byId.put(category.getId(), category);
+                byName.put(category.getName().trim().toLowerCase(Locale.ROOT), category);
+            }
+            this.defaultIncome = resolveDefault(defaultIncomeId);
+            this.defaultExpense = resolveDefault(defaultExpenseId);
+        }
+
+        private Category resolveDefault(Long id) {
+            if (id == null) {
+                return null;
+            }
+            Category category = byId.get(id);
+            if (category == null) {
+                throw new CategoryNotFoundException("Categoria não encontrada com id: " + id);
+            }
+            return category;
+        }
+
+        private Category find(String reference) {
+            if (reference == null) {
+                return null;
+            }
+
+            Category category = byName.get(reference.trim().toLowerCase(Locale.ROOT));
+            if (category == null) {
+                Long id = parseId(reference.trim());
+                category = id != null ? byId.get(id) : null;
+            }
+            if (category == null) {
+                throw new CategoryNotFoundException("Categoria não encontrada: " + reference);
+            }
+            return category;
+        }
+
+        // Identificadores inválidos ou fora do intervalo de Long são tratados como categoria inexistente
+        private static Long parseId(String reference) {
+            if (reference.isEmpty() || !reference.chars().allMatch(Character::isDigit)) {
+                return null;
+            }
+            try {
+                return Long.valueOf(reference);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private Category defaultFor(TransactionType type) {
+            Category category = type == TransactionType.EXPENSE ? defaultExpense : defaultIncome;
+            if (category == null) {
+                throw new ValidationException("Categoria não informada e nenhuma categoria padrão para "
+                        + (type == TransactionType.EXPENSE ? "despesas" : "receitas"));
+            }
+            return category;
+        }
+    }
+
+    /**
+     * Estado de uma importação em andamento, consultado pelo endpoint de status.
+     */
+    private static final class ImportJob {
+
+        private final String id;
+        private final Long userId;
+        private final TransactionImportFormat format;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final List<TransactionImportErrorDTO> errors = new ArrayList<>();
+        private TransactionImportStatus status = TransactionImportStatus.PROCESSING;
+        private LocalDateTime finishedAt;
+        private int processed;
+        private int imported;
+        private int failed;
+
+        private ImportJob(String id, Long userId, TransactionImportFormat format) {
+            this.id = id;
+            this.userId = userId;
+            this.format = format;
+        }
+
+        private synchronized void rowProcessed() {
+            processed++;
+        }
+
+        private synchronized void rowsImported(int count) {
+            imported += count;
+        }
+
+        private synchronized void rowFailed(int row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TransactionImportErrorDTO(row, message));
+            }
+        }
+
+        private synchronized void abort(String message) {
+            errors.add(new TransactionImportErrorDTO(0, message));
+            complete(TransactionImportStatus.FAILED);
+        }
+
+        private synchronized void complete(TransactionImportStatus finalStatus) {
+            status = finalStatus;
+            finishedAt = LocalDateTime.now();
+        }
+
+        private synchronized TransactionImportStatusDTO toDTO() {
+            return new TransactionImportStatusDTO(id, format, status, processed, imported, failed,
+                    List.copyOf(errors), startedAt, finishedAt);
+        }
+    }
+}
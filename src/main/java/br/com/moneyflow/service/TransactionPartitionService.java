@@ -0,0 +1,101 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.repository.AdvisoryLockRepository;
+import br.com.moneyflow.repository.TransactionArchiveRepository;
+import br.com.moneyflow.repository.TransactionPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Manutenção das partições mensais de transactions.
+ * Regras:
+ * 1. Apenas um nó executa por vez (trava consultiva do PostgreSQL); os demais pulam a execução
+ * 2. Roda na inicialização e diariamente, garantindo partições do mês atual até months-ahead meses à frente
+ * 3. Partições inteiramente anteriores à marca d'água do arquivo já tiveram as transações ativas movidas;
+ *    quando restam apenas transações excluídas logicamente há mais que deleted-transactions-grace,
+ *    a partição inteira é removida com DROP TABLE em vez de DELETEs linha a linha
+ * 4. A verificação e o DROP rodam numa única transação com a partição travada, então uma restauração
+ *    concorrente não é perdida; se a trava não sair em drop-lock-timeout, a partição fica para a próxima execução
+ */
+@Service
+@ConditionalOnProperty(name = "moneyflow.partitions.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class TransactionPartitionService {
+
+    // Chave da trava consultiva (pg_try_advisory_lock) exclusiva da manutenção de partições
+    private static final long ADVISORY_LOCK_KEY = 0x4D46_5041_5254L;
+
+    public record PartitionReport(int created, int dropped) {
+    }
+
+    private final TransactionPartitionRepository transactionPartitionRepository;
+    private final TransactionArchiveRepository transactionArchiveRepository;
+    private final AdvisoryLockRepository advisoryLockRepository;
+    private final int monthsAhead;
+    private final Duration deletedTransactionsGrace;
+    private final Duration dropLockTimeout;
+
+    public TransactionPartitionService(TransactionPartitionRepository transactionPartitionRepository,
+                                       TransactionArchiveRepository transactionArchiveRepository,
+                                       AdvisoryLockRepository advisoryLockRepository,
+                                       @Value("${moneyflow.partitions.months-ahead:3}") int monthsAhead,
+                                       @Value("${moneyflow.retention.deleted-transactions-grace:30d}") Duration deletedTransactionsGrace,
+                                       @Value("${moneyflow.partitions.drop-lock-timeout:5s}") Duration dropLockTimeout) {
+        this.transactionPartitionRepository = transactionPartitionRepository;
+        this.transactionArchiveRepository = transactionArchiveRepository;
+        this.advisoryLockRepository = advisoryLockRepository;
+        this.monthsAhead = monthsAhead;
+        this.deletedTransactionsGrace = deletedTransactionsGrace;
+        this.dropLockTimeout = dropLockTimeout;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${moneyflow.partitions.cron:0 0 2 * * *}")
+    public void runScheduled() {
+        advisoryLockRepository.runWithAdvisoryLock(ADVISORY_LOCK_KEY, this::maintain)
+                .ifPresentOrElse(
+                        report -> log.info("Manutenção de partições concluída: {} criadas, {} removidas",
+                                report.created(), report.dropped()),
+                        () -> log.info("Manutenção de partições ignorada: outra instância está executando"));
+    }
+
+    PartitionReport maintain() {
+        int created = 0;
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            if (transactionPartitionRepository.createPartition(currentMonth.plusMonths(i))) {
+                created++;
+            }
+        }
+
+        int dropped = 0;
+        LocalDate archivedBefore = transactionArchiveRepository.findWatermark().orElse(null);
+        if (archivedBefore != null) {
+            LocalDateTime deletedBefore = LocalDateTime.now().minus(deletedTransactionsGrace);
+            for (LocalDate month : transactionPartitionRepository.findPartitionMonths()) {
+                if (month.plusMonths(1).isAfter(archivedBefore)) {
+                    break;
+                }
+                try {
+                    if (transactionPartitionRepository.dropIfPurgeable(month, deletedBefore, dropLockTimeout)) {
+                        dropped++;
+                    }
+                } catch (PessimisticLockingFailureException e) {
+                    // Tabela ocupada por transações longas: a partição é reavaliada na próxima execução
+                    log.warn("Partição de {} não removida: trava não obtida em {}", month, dropLockTimeout);
+                }
+            }
+        }
+        return new PartitionReport(created, dropped);
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.model.dto.category.CategorySimpleDTO;
+import br.com.moneyflow.model.dto.projection.TransactionListProjection;
+import br.com.moneyflow.model.dto.transaction.TransactionResponseDTO;
+import br.com.moneyflow.model.entity.Transaction;
+
+/**
+ * Conversões para TransactionResponseDTO compartilhadas pela listagem de transações e pelo dashboard.
+ */
+final class TransactionResponseMapper {
+
+    private TransactionResponseMapper() {
+    }
+
+    static TransactionResponseDTO toDTO(Transaction transaction) {
+        CategorySimpleDTO categoryDTO = new CategorySimpleDTO(
+                transaction.getCategory().getId(),
+                transaction.getCategory().getName(),
+                transaction.getCategory().getType()
+        );
+
+        return toDTO(transaction, categoryDTO);
+    }
+
+    static TransactionResponseDTO toDTO(Transaction transaction, CategorySimpleDTO categoryDTO) {
+        return new TransactionResponseDTO(
+                transaction.getId(),
+                transaction.getDescription(),
+                transaction.getAmount(),
+                transaction.getDate(),
+                transaction.getType(),
+                categoryDTO,
+                transaction.getPaymentMethod(),
+                transaction.getNotes(),
+                transaction.getCreatedAt(),
+                transaction.getUpdatedAt()
+        );
+    }
+
+    static TransactionResponseDTO toDTO(TransactionListProjection projection) {
+        return new TransactionResponseDTO(
+                projection.getId(),
+                projection.getDescription(),
+                projection.getAmount(),
+                projection.getDate(),
+                projection.getType(),
+                new CategorySimpleDTO(projection.getCategoryId(), projection.getCategoryName(), projection.getCategoryType()),
+                projection.getPaymentMethod(),
+                projection.getNotes(),
+                projection.getCreatedAt(),
+                projection.getUpdatedAt()
+        );
+    }
+}
@@ -1,27 +1,32 @@
 package br.com.moneyflow.service;
 
 import br.com.moneyflow.exception.authorization.UnauthorizedAcessException;
+import br.com.moneyflow.exception.base.BaseException;
 import br.com.moneyflow.exception.business.*;
 import br.com.moneyflow.exception.resource.*;
-import br.com.moneyflow.model.dto.category.CategorySimpleDTO;
+import br.com.moneyflow.model.dto.projection.TransactionListProjection;
 import br.com.moneyflow.model.dto.transaction.CategoryExpenseDTO;
+import br.com.moneyflow.model.dto.transaction.TransactionCursorPageDTO;
 import br.com.moneyflow.model.dto.transaction.TransactionFilterDTO;
 import br.com.moneyflow.model.dto.transaction.TransactionRequestDTO;
 import br.com.moneyflow.model.dto.transaction.TransactionResponseDTO;
 import br.com.moneyflow.model.dto.transaction.TransactionSummaryDTO;
-import br.com.moneyflow.model.entity.Budget;
-import br.com.moneyflow.model.entity.Category;
+import br.com.moneyflow.model.entity.CategoryType;
 import br.com.moneyflow.model.entity.Transaction;
 import br.com.moneyflow.model.entity.TransactionType;
-import br.com.moneyflow.repository.BudgetRepository;
 import br.com.moneyflow.repository.CategoryRepository;
+import br.com.moneyflow.repository.TransactionHistoryRepository;
+import br.com.moneyflow.repository.TransactionQueries;
 import br.com.moneyflow.repository.TransactionRepository;
 import br.com.moneyflow.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -36,32 +41,22 @@ public class TransactionService {
     private final TransactionRepository transactionRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
-    private final BudgetRepository budgetRepository;
-    private final AlertService alertService;
+    private final MonthlyRollupService monthlyRollupService;
+    private final DashboardCache dashboardCache;
+    private final BudgetAlertEvaluator budgetAlertEvaluator;
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final TransactionArchiveWatermark transactionArchiveWatermark;
+    private final CategoryCache categoryCache;
 
     @Transactional
     public TransactionResponseDTO createTransaction(Long userId, TransactionRequestDTO transactionRequestDTO) {
         var user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("Usuário não encontrado com id: " + userId));
 
-        var category = categoryRepository.findByUserIdAndId(userId, transactionRequestDTO.categoryId())
+        var category = categoryCache.find(userId, transactionRequestDTO.categoryId())
                 .orElseThrow(() -> new CategoryNotFoundException("Categoria não encontrada com id: " + transactionRequestDTO.categoryId()));
 
-        if (!transactionRequestDTO.type().name().equals(category.getType().name())) {
-            throw new InvalidTransactionTypeException("Tipo da transação não corresponde ao tipo da categoria");
-        }
-
-        if (transactionRequestDTO.amount() == null || transactionRequestDTO.amount().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new InvalidAmountException("Valor deve ser maior que zero");
-        }
-
-        if (transactionRequestDTO.description() == null || transactionRequestDTO.description().trim().length() < 3) {
-            throw new ValidationException("Descrição deve ter no mínimo 3 caracteres");
-        }
-
-        if (transactionRequestDTO.date() != null && transactionRequestDTO.date().isAfter(LocalDate.now())) {
-            throw new InvalidDateException("Data da transação não pode ser no futuro");
-        }
+        validateTransactionRules(transactionRequestDTO, category.type());
 
         Transaction transaction = new Transaction();
         transaction.setUser(user);
@@ -69,123 +64,167 @@ public class TransactionService {
         transaction.setAmount(transactionRequestDTO.amount());
         transaction.setDate(transactionRequestDTO.date());
         transaction.setType(transactionRequestDTO.type());
-        transaction.setCategory(category);
+        transaction.setCategory(categoryRepository.getReferenceById(category.id()));
         transaction.setPaymentMethod(transactionRequestDTO.paymentMethod());
         transaction.setNotes(transactionRequestDTO.notes());
 
-        Transaction savedTransaction = transactionRepository.save(transaction);
+        Transaction savedTransaction = saveWithCategory(userId, transaction);
+        monthlyRollupService.addTransaction(savedTransaction);
+        dashboardCache.evictTransactionDate(userId, savedTransaction.getDate());
 
         if (savedTransaction.getType() == TransactionType.EXPENSE) {
-            checkBudgetAndCreateAlert(userId, category.getId(),
-                    savedTransaction.getDate().getYear(),
-                    savedTransaction.getDate().getMonthValue());
+            budgetAlertEvaluator.schedule(userId, category.id(), savedTransaction.getDate());
         }
-        return toDTO(savedTransaction);
+        return TransactionResponseMapper.toDTO(savedTransaction, category.toSimpleDTO());
     }
 
+    /**
+     * Transações arquivadas continuam aparecendo na listagem, então a leitura por id recorre à visão
+     * com o arquivo quando a transação não está na tabela quente.
+     */
     public TransactionResponseDTO getTransactionById(Long userId, Long transactionId) {
-        Transaction transaction = transactionRepository.findByIdAndDeletedFalse(transactionId)
-                .orElseThrow(() -> new TransactionNotFoundException("Transação não encontrada com id: " + transactionId));
+        Transaction transaction = transactionRepository.findByIdAndDeletedFalse(transactionId).orElse(null);
+        if (transaction == null) {
+            return transactionHistoryRepository.findActiveById(userId, transactionId)
+                    .map(TransactionResponseMapper::toDTO)
+                    .orElseThrow(() -> new TransactionNotFoundException("Transação não encontrada com id: " + transactionId));
+        }
 
         validateTransactionOwnership(transaction, userId);
 
-        return toDTO(transaction);
+        return toDTO(userId, transaction);
     }
 
 
     public Page<TransactionResponseDTO> getTransactions(Long userId, TransactionFilterDTO filters, Pageable pageable) {
-        if (filters != null) {
-            if (filters.startDate() != null && filters.endDate() != null
-                    && filters.startDate().isAfter(filters.endDate())) {
-                throw new InvalidDateRangeException("Data inicial não pode ser maior que data final");
-            }
+        return getTransactions(userId, filters, pageable, true);
+    }
 
-            if (filters.categoryId() != null) {
-                categoryRepository.findByUserIdAndId(userId, filters.categoryId())
-                        .orElseThrow(() -> new CategoryNotFoundException("Categoria não encontrada ou não pertence ao usuário"));
-            }
-        }
+    public Page<TransactionResponseDTO> getTransactions(Long userId, TransactionFilterDTO filters,
+                                                        Pageable pageable, boolean includeTotal) {
+        validateFilters(userId, filters);
 
         LocalDate startDate = filters != null ? filters.startDate() : null;
         LocalDate endDate = filters != null ? filters.endDate() : null;
         Long categoryId = filters != null ? filters.categoryId() : null;
         TransactionType type = filters != null ? filters.type() : null;
+        TransactionQueries queries = queriesFor(startDate);
+
+        if (!includeTotal) {
+            // Slice busca uma linha extra para saber se há próxima página, sem executar o COUNT
+            Slice<TransactionListProjection> slice = queries.findSliceByFilters(
+                    userId, categoryId, type, startDate, endDate, pageable);
 
-        List<Transaction> transactions = transactionRepository.findByFilters(
+            List<TransactionResponseDTO> dtos = slice.getContent().stream()
+                    .map(TransactionResponseMapper::toDTO)
+                    .collect(Collectors.toList());
+
+            long estimatedTotal = pageable.getOffset() + dtos.size() + (slice.hasNext() ? 1 : 0);
+            return new PageImpl<>(dtos, pageable, estimatedTotal);
+        }
+
+        List<TransactionListProjection> transactions = queries.findByFilters(
                 userId, categoryId, type, startDate, endDate, pageable);
 
         List<TransactionResponseDTO> dtos = transactions.stream()
-                .map(this::toDTO)
+                .map(TransactionResponseMapper::toDTO)
                 .collect(Collectors.toList());
 
-        long total = transactionRepository.countByFilters(userId, categoryId, type, startDate, endDate);
+        long total = queries.countByFilters(userId, categoryId, type, startDate, endDate);
 
         return new PageImpl<>(dtos, pageable, total);
     }
 
+    /**
+     * Paginação por cursor (keyset) sobre (date, id), com custo constante por página
+     * independentemente da profundidade. O total só é calculado quando solicitado.
+     */
+    public TransactionCursorPageDTO getTransactionsByCursor(Long userId, TransactionFilterDTO filters,
+                                                            String cursor, int size, boolean includeTotal) {
+        validateFilters(userId, filters);
+
+        LocalDate startDate = filters != null ? filters.startDate() : null;
+        LocalDate endDate = filters != null ? filters.endDate() : null;
+        Long categoryId = filters != null ? filters.categoryId() : null;
+        TransactionType type = filters != null ? filters.type() : null;
+
+        TransactionQueries queries = queriesFor(startDate);
+        Pageable limit = PageRequest.of(0, size);
+        Slice<TransactionListProjection> slice;
+
+        if (cursor == null || cursor.isBlank()) {
+            slice = queries.findFirstPageByFilters(
+                    userId, categoryId, type, startDate, endDate, limit);
+        } else {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            slice = queries.findPageAfterCursor(
+                    userId, categoryId, type, startDate, endDate, position.date(), position.id(), limit);
+        }
+
+        List<TransactionListProjection> page = slice.getContent();
+
+        String nextCursor = null;
+        if (slice.hasNext() && !page.isEmpty()) {
+            TransactionListProjection last = page.get(page.size() - 1);
+            nextCursor = new TransactionCursor(last.getDate(), last.getId()).encode();
+        }
+
+        Long total = includeTotal
+                ? queries.countByFilters(userId, categoryId, type, startDate, endDate)
+                : null;
+
+        List<TransactionResponseDTO> dtos = page.stream()
+                .map(TransactionResponseMapper::toDTO)
+                .collect(Collectors.toList());
+
+        return new TransactionCursorPageDTO(dtos, size, slice.hasNext(), nextCursor, total);
+    }
+
     @Transactional
     public TransactionResponseDTO updateTransaction(Long userId, Long transactionId, TransactionRequestDTO dto) {
         Transaction transaction = transactionRepository.findByIdAndDeletedFalse(transactionId)
-                .orElseThrow(() -> new TransactionNotFoundException("Transação não encontrada com id: " + transactionId));
+                .orElseThrow(() -> notFoundOrArchived(userId, transactionId));
 
         validateTransactionOwnership(transaction, userId);
 
         Long oldCategoryId = transaction.getCategory().getId();
         LocalDate oldDate = transaction.getDate();
         TransactionType oldType = transaction.getType();
+        BigDecimal oldAmount = transaction.getAmount();
 
-        Category newCategory = categoryRepository.findByUserIdAndId(userId, dto.categoryId())
+        CategoryCache.Entry newCategory = categoryCache.find(userId, dto.categoryId())
                 .orElseThrow(() -> new CategoryNotFoundException("Categoria não encontrada ou não pertence ao usuário"));
 
-        if (!dto.type().name().equals(newCategory.getType().name())) {
-            throw new InvalidTransactionTypeException("Tipo da transação não corresponde ao tipo da categoria");
-        }
-
-        if (dto.amount() == null || dto.amount().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new InvalidAmountException("Valor deve ser maior que zero");
-        }
-
-        if (dto.description() == null || dto.description().trim().length() < 3) {
-            throw new ValidationException("Descrição deve ter no mínimo 3 caracteres");
-        }
-
-        if (dto.date() != null && dto.date().isAfter(LocalDate.now())) {
-            throw new InvalidDateException("Data da transação não pode ser no futuro");
-        }
+        validateTransactionRules(dto, newCategory.type());
 
         transaction.setDescription(dto.description().trim());
         transaction.setAmount(dto.amount());
         transaction.setDate(dto.date());
         transaction.setType(dto.type());
-        transaction.setCategory(newCategory);
+        transaction.setCategory(categoryRepository.getReferenceById(newCategory.id()));
         transaction.setPaymentMethod(dto.paymentMethod());
         transaction.setNotes(dto.notes());
 
-        Transaction updatedTransaction = transactionRepository.save(transaction);
-
-        if (dto.type() == TransactionType.EXPENSE || oldType == TransactionType.EXPENSE) {
-            if (!oldCategoryId.equals(dto.categoryId())) {
-                recalculateBudgetAlerts(userId, oldCategoryId, oldDate.getYear(), oldDate.getMonthValue());
-            }
-
-            LocalDate newDate = dto.date();
-            if (newDate != null && (oldDate.getMonthValue() != newDate.getMonthValue()
-                    || oldDate.getYear() != newDate.getYear())) {
-                recalculateBudgetAlerts(userId, oldCategoryId, oldDate.getYear(), oldDate.getMonthValue());
-            }
+        Transaction updatedTransaction = saveWithCategory(userId, transaction);
+        monthlyRollupService.removeTransaction(userId, oldCategoryId, oldDate, oldType, oldAmount);
+        monthlyRollupService.addTransaction(updatedTransaction);
+        dashboardCache.evictTransactionDate(userId, oldDate);
+        dashboardCache.evictTransactionDate(userId, updatedTransaction.getDate());
 
-            if (dto.type() == TransactionType.EXPENSE && newDate != null) {
-                recalculateBudgetAlerts(userId, dto.categoryId(), newDate.getYear(), newDate.getMonthValue());
-            }
+        if (oldType == TransactionType.EXPENSE) {
+            budgetAlertEvaluator.schedule(userId, oldCategoryId, oldDate);
+        }
+        if (updatedTransaction.getType() == TransactionType.EXPENSE) {
+            budgetAlertEvaluator.schedule(userId, newCategory.id(), updatedTransaction.getDate());
         }
 
-        return toDTO(updatedTransaction);
+        return TransactionResponseMapper.toDTO(updatedTransaction, newCategory.toSimpleDTO());
     }
 
     @Transactional
     public void deleteTransaction(Long userId, Long transactionId) {
         Transaction transaction = transactionRepository.findByIdAndDeletedFalse(transactionId)
-                .orElseThrow(() -> new TransactionNotFoundException("Transação não encontrada com id: " + transactionId));
+                .orElseThrow(() -> notFoundOrArchived(userId, transactionId));
 
         validateTransactionOwnership(transaction, userId);
 
@@ -195,24 +234,46 @@ public class TransactionService {
 
         transaction.softDelete();
         transactionRepository.save(transaction);
+        monthlyRollupService.removeTransaction(userId, categoryId, date, type, transaction.getAmount());
+        dashboardCache.evictTransactionDate(userId, date);
 
         if (type == TransactionType.EXPENSE) {
-            recalculateBudgetAlerts(userId, categoryId, date.getYear(), date.getMonthValue());
+            budgetAlertEvaluator.schedule(userId, categoryId, date);
         }
     }
 
+    @Transactional
+    public TransactionResponseDTO restoreTransaction(Long userId, Long transactionId) {
+        Transaction transaction = transactionRepository.findByIdAndDeletedTrue(transactionId)
+                .orElseThrow(() -> new TransactionNotFoundException("Transação excluída não encontrada com id: " + transactionId));
+
+        validateTransactionOwnership(transaction, userId);
+
+        transaction.restore();
+        Transaction restoredTransaction = transactionRepository.save(transaction);
+        monthlyRollupService.addTransaction(restoredTransaction);
+        dashboardCache.evictTransactionDate(userId, restoredTransaction.getDate());
+
+        if (restoredTransaction.getType() == TransactionType.EXPENSE) {
+            budgetAlertEvaluator.schedule(userId, restoredTransaction.getCategory().getId(),
+                    restoredTransaction.getDate());
+        }
+
+        return toDTO(userId, restoredTransaction);
+    }
+
     public BigDecimal getTotalIncomeByPeriod(Long userId, LocalDate startDate, LocalDate endDate) {
 
         validateDateRange(startDate, endDate);
 
-        BigDecimal total = transactionRepository.sumIncomeByPeriod(userId, startDate, endDate);
+        BigDecimal total = queriesFor(startDate).sumIncomeByPeriod(userId, startDate, endDate);
         return total != null ? total : BigDecimal.ZERO;
     }
 
     public BigDecimal getTotalExpenseByPeriod(Long userId, LocalDate startDate, LocalDate endDate) {
         validateDateRange(startDate, endDate);
 
-        BigDecimal total = transactionRepository.sumExpensesByPeriod(userId, startDate, endDate);
+        BigDecimal total = queriesFor(startDate).sumExpensesByPeriod(userId, startDate, endDate);
         return total != null ? total : BigDecimal.ZERO;
     }
 
@@ -223,7 +284,7 @@ public class TransactionService {
         BigDecimal totalExpense = getTotalExpenseByPeriod(userId, startDate, endDate);
         BigDecimal balance = totalIncome.subtract(totalExpense);
 
-        Long transactionCount = transactionRepository.countByUserIdAndDateBetweenAndDeletedFalse(
+        Long transactionCount = queriesFor(startDate).countByUserIdAndDateBetweenAndDeletedFalse(
                 userId, startDate, endDate);
 
         return new TransactionSummaryDTO(
@@ -239,7 +300,7 @@ public class TransactionService {
     public List<CategoryExpenseDTO> getExpensesByCategory(Long userId, LocalDate startDate, LocalDate endDate) {
         validateDateRange(startDate, endDate);
 
-        var projections = transactionRepository.findExpensesByCategory(userId, startDate, endDate);
+        var projections = queriesFor(startDate).findExpensesByCategory(userId, startDate, endDate);
 
         BigDecimal total = projections.stream()
                 .map(TransactionRepository.CategoryExpenseProjection::getTotalAmount)
@@ -264,74 +325,92 @@ public class TransactionService {
                 .collect(Collectors.toList());
     }
 
-    private void validateTransactionOwnership(Transaction transaction, Long userId) {
-        if (!transaction.getUser().getId().equals(userId)) {
-            throw new UnauthorizedAcessException("Acesso não autorizado: Transação não pertence a este usuário");
+    void validateFilters(Long userId, TransactionFilterDTO filters) {
+        if (filters != null) {
+            if (filters.startDate() != null && filters.endDate() != null
+                    && filters.startDate().isAfter(filters.endDate())) {
+                throw new InvalidDateRangeException("Data inicial não pode ser maior que data final");
+            }
+
+            if (filters.categoryId() != null) {
+                categoryCache.find(userId, filters.categoryId())
+                        .orElseThrow(() -> new CategoryNotFoundException("Categoria não encontrada ou não pertence ao usuário"));
+            }
         }
     }
 
-    private void validateDateRange(LocalDate startDate, LocalDate endDate) {
-        if (startDate == null || endDate == null) {
-            throw new InvalidDateException("Data inicial e final são obrigatórias");
+    /**
+     * Regras de negócio comuns à criação, edição e importação de transações.
+     */
+    void validateTransactionRules(TransactionRequestDTO dto, CategoryType categoryType) {
+        if (!dto.type().name().equals(categoryType.name())) {
+            throw new InvalidTransactionTypeException("Tipo da transação não corresponde ao tipo da categoria");
         }
-        if (startDate.isAfter(endDate)) {
-            throw new InvalidDateRangeException("Data inicial não pode ser maior que data final");
+
+        if (dto.amount() == null || dto.amount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new InvalidAmountException("Valor deve ser maior que zero");
         }
-    }
 
-    private TransactionResponseDTO toDTO(Transaction transaction) {
-        CategorySimpleDTO categoryDTO = new CategorySimpleDTO(
-                transaction.getCategory().getId(),
-                transaction.getCategory().getName(),
-                transaction.getCategory().getType()
-        );
+        if (dto.description() == null || dto.description().trim().length() < 3) {
+            throw new ValidationException("Descrição deve ter no mínimo 3 caracteres");
+        }
 
-        return new TransactionResponseDTO(
-                transaction.getId(),
-                transaction.getDescription(),
-                transaction.getAmount(),
-                transaction.getDate(),
-                transaction.getType(),
-                categoryDTO,
-                transaction.getPaymentMethod(),
-                transaction.getNotes(),
-                transaction.getCreatedAt(),
-                transaction.getUpdatedAt()
-        );
+        if (dto.date() != null && dto.date().isAfter(LocalDate.now())) {
+            throw new InvalidDateException("Data da transação não pode ser no futuro");
+        }
     }
 
     /**
-     * Verifica orçamento e cria alerta se necessário
-     * Regra de Negócio:
-     * 1. Buscar budget da categoria no mês/ano
-     * 2. Se existe budget:
-     *    a. Calcular total gasto no mês
-     *    b. Calcular percentual: (gasto / orçamento) * 100
-     *    c. Se percentual >= 80% E < 100%: AlertService.createWarningAlert()
-     *    d. Se percentual >= 100%: AlertService.createCriticalAlert()
+     * Leituras por período só consultam o arquivo quando o intervalo alcança a marca d'água;
+     * buscas por id, edição, exclusão e restauração atuam apenas na tabela quente.
      */
-    private void checkBudgetAndCreateAlert(Long userId, Long categoryId, int year, int month) {
-        List<Budget> budgets = budgetRepository.findByUserIdAndMonthAndYear(userId, month, year);
-
-        if (budgets != null && !budgets.isEmpty()) {
-            for (Budget budget : budgets) {
-                if (budget.getCategory().getId().equals(categoryId)) {
-                    BigDecimal spent = transactionRepository.sumExpensesByCategoryAndMonth(
-                            userId, categoryId, year, month);
+    private TransactionQueries queriesFor(LocalDate startDate) {
+        return transactionArchiveWatermark.covers(startDate) ? transactionHistoryRepository : transactionRepository;
+    }
 
-                    if (spent == null) {
-                        spent = BigDecimal.ZERO;
-                    }
+    /**
+     * A categoria vem do cache, que pode estar desatualizado em relação a outra instância; o flush imediato
+     * faz a FK de categoria falhar aqui, como CategoryNotFoundException, e não como erro 500 no commit.
+     */
+    private Transaction saveWithCategory(Long userId, Transaction transaction) {
+        try {
+            return transactionRepository.saveAndFlush(transaction);
+        } catch (DataIntegrityViolationException e) {
+            throw categoryCache.translateWriteFailure(userId, transaction.getCategory().getId(), e);
+        }
+    }
 
-                    alertService.checkAndSendBudgetAlert(budget, spent);
-                }
-            }
+    /**
+     * Transações arquivadas são somente leitura: alterá-las resulta em conflito, não em "não encontrada".
+     */
+    private BaseException notFoundOrArchived(Long userId, Long transactionId) {
+        if (transactionHistoryRepository.findActiveById(userId, transactionId).isPresent()) {
+            return new ArchivedTransactionException("Transação arquivada não pode ser alterada ou excluída: " + transactionId);
         }
+        return new TransactionNotFoundException("Transação não encontrada com id: " + transactionId);
     }
 
-    private void recalculateBudgetAlerts(Long userId, Long categoryId, int year, int month) {
-        checkBudgetAndCreateAlert(userId, categoryId, year, month);
+    private void validateTransactionOwnership(Transaction transaction, Long userId) {
+        if (!transaction.getUser().getId().equals(userId)) {
+            throw new UnauthorizedAcessException("Acesso não autorizado: Transação não pertence a este usuário");
+        }
     }
-}
 
+    private void validateDateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new InvalidDateException("Data inicial e final são obrigatórias");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidDateRangeException("Data inicial não pode ser maior que data final");
+        }
+    }
 
+    /**
+     * Usa os metadados da categoria em cache; a entidade só é consultada se a categoria não estiver no cache.
+     */
+    private TransactionResponseDTO toDTO(Long userId, Transaction transaction) {
+        return categoryCache.find(userId, transaction.getCategory().getId())
+                .map(category -> TransactionResponseMapper.toDTO(transaction, category.toSimpleDTO()))
+                .orElseGet(() -> TransactionResponseMapper.toDTO(transaction));
+    }
+}
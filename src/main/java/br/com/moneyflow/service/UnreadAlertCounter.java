@@ -0,0 +1,80 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.repository.AlertRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contador em memória de alertas não lidos por usuário.
+ * Regras:
+ * 1. O valor é carregado do banco no primeiro acesso e limitado por tamanho e tempo sem uso
+ * 2. Leituras e exclusões de alertas aplicam deltas negativos após o commit; usuários fora do cache são ignorados
+ * 3. Quando o delta não é conhecido (upsert de alerta de orçamento), o usuário é invalidado e recontado
+ * 4. Após o intervalo de reconciliação o valor é recarregado do banco em segundo plano,
+ *    então qualquer divergência é temporária
+ */
+@Component
+public class UnreadAlertCounter {
+
+    private final LoadingCache<Long, AtomicLong> counters;
+
+    public UnreadAlertCounter(AlertRepository alertRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${moneyflow.alerts.unread-counter.maximum-size:100000}") long maximumSize,
+                              @Value("${moneyflow.alerts.unread-counter.expire-after-access:1h}") Duration expireAfterAccess,
+                              @Value("${moneyflow.alerts.unread-counter.reconcile-interval:5m}") Duration reconcileInterval) {
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .refreshAfterWrite(reconcileInterval)
+                .recordStats()
+                .build(userId -> new AtomicLong(alertRepository.countByUserIdAndReadFalse(userId)));
+        CaffeineCacheMetrics.monitor(meterRegistry, counters, "unread-alerts");
+    }
+
+    public long get(Long userId) {
+        return Math.max(0, counters.get(userId).get());
+    }
+
+    public void decrement(Long userId, long amount) {
+        add(userId, -amount);
+    }
+
+    public void invalidate(Long userId) {
+        afterCommit(() -> counters.invalidate(userId));
+    }
+
+    private void add(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        afterCommit(() -> {
+            AtomicLong counter = counters.getIfPresent(userId);
+            if (counter != null) {
+                counter.addAndGet(delta);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- Suporte à paginação por cursor (keyset) ordenada por (date, id)
+CREATE INDEX idx_transactions_active_user_date_id
+    ON transactions(user_id, date DESC, id DESC)
+    WHERE deleted = false;
+
+COMMENT ON INDEX idx_transactions_active_user_date_id IS 'Índice parcial para paginação por cursor de transações ativas (date, id)';
@@ -0,0 +1,14 @@
+-- As entidades Transaction, Alert, Budget e Category passam a usar geração por sequence
+-- com otimizador pooled (allocationSize = 50), o que permite ao Hibernate agrupar INSERTs
+-- em lotes JDBC. O incremento da sequence precisa coincidir com o allocationSize.
+-- O DEFAULT nextval das colunas é mantido para INSERTs feitos diretamente em SQL.
+
+ALTER SEQUENCE transactions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE alerts_id_seq INCREMENT BY 50;
+ALTER SEQUENCE budgets_id_seq INCREMENT BY 50;
+ALTER SEQUENCE categories_id_seq INCREMENT BY 50;
+
+COMMENT ON SEQUENCE transactions_id_seq IS 'Sequence pooled (incremento 50) para Transaction';
+COMMENT ON SEQUENCE alerts_id_seq IS 'Sequence pooled (incremento 50) para Alert';
+COMMENT ON SEQUENCE budgets_id_seq IS 'Sequence pooled (incremento 50) para Budget';
+COMMENT ON SEQUENCE categories_id_seq IS 'Sequence pooled (incremento 50) para Category';
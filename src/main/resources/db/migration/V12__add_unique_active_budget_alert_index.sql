@@ -0,0 +1,17 @@
+-- Cada orçamento tem no máximo um alerta ativo (WARNING ou CRITICAL).
+-- O índice único parcial serve de alvo para o INSERT ... ON CONFLICT de AlertRepository.upsertActiveBudgetAlert,
+-- tornando a geração de alertas idempotente mesmo com avaliações concorrentes.
+
+-- Remove duplicatas geradas por avaliações concorrentes, mantendo o alerta mais recente de cada orçamento
+DELETE FROM alerts a
+USING alerts b
+WHERE a.budget_id = b.budget_id
+  AND a.level IN ('WARNING', 'CRITICAL')
+  AND b.level IN ('WARNING', 'CRITICAL')
+  AND (a.created_at, a.id) < (b.created_at, b.id);
+
+CREATE UNIQUE INDEX uk_alerts_active_budget
+    ON alerts(budget_id)
+    WHERE budget_id IS NOT NULL AND level IN ('WARNING', 'CRITICAL');
+
+COMMENT ON INDEX uk_alerts_active_budget IS 'Garante um único alerta ativo (WARNING/CRITICAL) por orçamento';
@@ -0,0 +1,46 @@
+-- Camada de arquivo: anos encerrados saem de transactions para transactions_archive,
+-- mantendo os índices da tabela quente pequenos. Somente transações ativas são arquivadas;
+-- as excluídas logicamente ficam na tabela quente até a retenção removê-las.
+-- O rollup mensal (monthly_category_totals) não é alterado ao arquivar.
+
+CREATE TABLE transactions_archive (
+    id BIGINT PRIMARY KEY,
+    description VARCHAR(200) NOT NULL,
+    amount NUMERIC(15, 2) NOT NULL,
+    date DATE NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    payment_method VARCHAR(50) NOT NULL,
+    notes VARCHAR(500),
+    category_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT fk_transaction_archive_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE RESTRICT,
+    CONSTRAINT fk_transaction_archive_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_transactions_archive_user_date_id ON transactions_archive(user_id, date DESC, id DESC);
+CREATE INDEX idx_transactions_archive_category_id ON transactions_archive(category_id);
+
+-- Marca d'água: transactions_archive só contém transações com date anterior a archived_before
+CREATE TABLE transaction_archive_watermark (
+    id SMALLINT PRIMARY KEY DEFAULT 1,
+    archived_before DATE NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT chk_transaction_archive_watermark_single_row CHECK (id = 1)
+);
+
+-- Visão unificada (quente + arquivo) usada pelas leituras cujo período alcança o arquivo
+CREATE VIEW transaction_history AS
+SELECT id, description, amount, date, type, payment_method, notes,
+       category_id, user_id, created_at, updated_at, deleted
+FROM transactions
+UNION ALL
+SELECT id, description, amount, date, type, payment_method, notes,
+       category_id, user_id, created_at, updated_at, FALSE AS deleted
+FROM transactions_archive;
+
+COMMENT ON TABLE transactions_archive IS 'Transações de anos encerrados movidas da tabela quente (somente leitura)';
+COMMENT ON TABLE transaction_archive_watermark IS 'Data até a qual (exclusive) transações podem ter sido arquivadas';
+COMMENT ON VIEW transaction_history IS 'União de transactions e transactions_archive para leituras históricas';
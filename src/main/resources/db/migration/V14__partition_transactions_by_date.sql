@@ -0,0 +1,132 @@
+-- Particionamento nativo de transactions por intervalo de date (uma partição por mês).
+-- Consultas limitadas a um mês acessam uma única partição; partições antigas e já
+-- arquivadas podem ser removidas com DROP TABLE em vez de DELETEs em massa.
+-- A chave primária passa a ser (id, date), exigência do PostgreSQL para tabelas particionadas;
+-- id continua único, pois vem sempre de transactions_id_seq.
+
+DROP VIEW transaction_history;
+
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+ALTER INDEX transactions_pkey RENAME TO transactions_unpartitioned_pkey;
+ALTER SEQUENCE transactions_id_seq OWNED BY NONE;
+
+CREATE TABLE transactions (
+    id BIGINT NOT NULL DEFAULT nextval('transactions_id_seq'),
+    description VARCHAR(200) NOT NULL,
+    amount NUMERIC(15, 2) NOT NULL,
+    date DATE NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    payment_method VARCHAR(50) NOT NULL,
+    notes VARCHAR(500),
+    category_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    CONSTRAINT transactions_pkey PRIMARY KEY (id, date),
+    CONSTRAINT fk_transaction_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE RESTRICT,
+    CONSTRAINT fk_transaction_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT chk_transaction_type CHECK (type IN ('INCOME', 'EXPENSE')),
+    CONSTRAINT chk_payment_method CHECK (payment_method IN ('CREDIT_CARD', 'DEBIT_CARD', 'CASH', 'PIX')),
+    CONSTRAINT chk_transaction_amount_positive CHECK (amount > 0)
+) PARTITION BY RANGE (date);
+
+ALTER SEQUENCE transactions_id_seq OWNED BY transactions.id;
+
+-- Recebe datas sem partição mensal (transações muito antigas, anteriores às partições criadas)
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+-- Cria a partição do mês de p_month (transactions_pAAAA_MM) se ainda não existir.
+-- Linhas do mesmo mês que já estejam na partição padrão são movidas para a nova partição.
+-- Retorna true quando a partição foi criada.
+CREATE FUNCTION create_transactions_partition(p_month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::DATE;
+    v_end DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name TEXT := 'transactions_p' || to_char(v_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM transactions_default WHERE date >= v_start AND date < v_end) THEN
+        EXECUTE format('CREATE TABLE %I (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+        EXECUTE format('WITH moved AS (DELETE FROM transactions_default WHERE date >= %L AND date < %L RETURNING *) ' ||
+                       'INSERT INTO %I SELECT * FROM moved', v_start, v_end, v_name);
+        EXECUTE format('ALTER TABLE transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                       v_name, v_start, v_end);
+    ELSE
+        EXECUTE format('CREATE TABLE %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+                       v_name, v_start, v_end);
+    END IF;
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partições mensais a partir do mês mais antigo com dados (limitado aos três anos anteriores ao atual)
+-- até três meses à frente; o job de manutenção continua criando as próximas
+DO $$
+DECLARE
+    v_month DATE;
+BEGIN
+    SELECT GREATEST(
+                   COALESCE(date_trunc('month', MIN(date)), date_trunc('month', CURRENT_DATE)),
+                   date_trunc('year', CURRENT_DATE) - INTERVAL '3 years')::DATE
+    INTO v_month
+    FROM transactions_unpartitioned;
+
+    WHILE v_month <= (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::DATE LOOP
+        PERFORM create_transactions_partition(v_month);
+        v_month := (v_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO transactions (id, description, amount, date, type, payment_method, notes,
+                          category_id, user_id, created_at, updated_at, deleted)
+SELECT id, description, amount, date, type, payment_method, notes,
+       category_id, user_id, created_at, updated_at, deleted
+FROM transactions_unpartitioned;
+
+DROP TABLE transactions_unpartitioned;
+
+-- Índices criados na tabela pai são replicados em cada partição.
+-- idx_transactions_date não é recriado: o filtro por data é resolvido pela poda de partições.
+CREATE INDEX idx_transactions_user_id ON transactions(user_id);
+CREATE INDEX idx_transactions_category_id ON transactions(category_id);
+CREATE INDEX idx_transactions_type ON transactions(type);
+CREATE INDEX idx_transactions_deleted ON transactions(deleted);
+CREATE INDEX idx_transactions_user_date ON transactions(user_id, date);
+CREATE INDEX idx_transactions_user_type_date ON transactions(user_id, type, date);
+
+CREATE INDEX idx_transactions_active_user_date
+    ON transactions(user_id, date)
+    WHERE deleted = false;
+
+CREATE INDEX idx_transactions_active_category
+    ON transactions(category_id, date)
+    WHERE deleted = false;
+
+CREATE INDEX idx_transactions_active_user_date_id
+    ON transactions(user_id, date DESC, id DESC)
+    WHERE deleted = false;
+
+CREATE VIEW transaction_history AS
+SELECT id, description, amount, date, type, payment_method, notes,
+       category_id, user_id, created_at, updated_at, deleted
+FROM transactions
+UNION ALL
+SELECT id, description, amount, date, type, payment_method, notes,
+       category_id, user_id, created_at, updated_at, FALSE AS deleted
+FROM transactions_archive;
+
+COMMENT ON TABLE transactions IS 'Transações financeiras (receitas e despesas), particionadas por mês de date';
+COMMENT ON COLUMN transactions.amount IS 'Valor da transação (sempre positivo)';
+COMMENT ON COLUMN transactions.type IS 'Tipo: INCOME (receita) ou EXPENSE (despesa)';
+COMMENT ON COLUMN transactions.payment_method IS 'Método de pagamento utilizado';
+COMMENT ON COLUMN transactions.deleted IS 'Soft delete - indica se a transação foi excluída';
+COMMENT ON TABLE transactions_default IS 'Partição padrão para datas sem partição mensal';
+COMMENT ON FUNCTION create_transactions_partition(DATE) IS 'Cria a partição mensal de transactions que contém a data informada';
+COMMENT ON INDEX idx_transactions_active_user_date IS 'Índice parcial para otimizar queries de transações ativas por usuário e data';
+COMMENT ON INDEX idx_transactions_active_user_date_id IS 'Índice parcial para paginação por cursor de transações ativas (date, id)';
+COMMENT ON VIEW transaction_history IS 'União de transactions e transactions_archive para leituras históricas';
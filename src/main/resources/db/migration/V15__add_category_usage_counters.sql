@@ -0,0 +1,24 @@
+-- Contadores de uso por categoria mantidos a cada escrita de transação, para que as leituras
+-- de contagem, categorias sem uso e categorias mais usadas dependam apenas do número de categorias.
+-- Transações arquivadas continuam contando: o arquivamento não altera os contadores.
+
+ALTER TABLE categories ADD COLUMN transaction_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE categories ADD COLUMN last_used_date DATE;
+
+ALTER TABLE categories ADD CONSTRAINT chk_category_transaction_count_non_negative
+    CHECK (transaction_count >= 0);
+
+-- Carga inicial a partir das transações ativas existentes (tabela quente e arquivo)
+UPDATE categories c
+SET transaction_count = u.transaction_count,
+    last_used_date = u.last_used_date
+FROM (
+    SELECT category_id, COUNT(*) AS transaction_count, MAX(date) AS last_used_date
+    FROM transaction_history
+    WHERE deleted = false
+    GROUP BY category_id
+) u
+WHERE u.category_id = c.id;
+
+COMMENT ON COLUMN categories.transaction_count IS 'Quantidade de transações ativas da categoria';
+COMMENT ON COLUMN categories.last_used_date IS 'Data da transação ativa mais recente da categoria';
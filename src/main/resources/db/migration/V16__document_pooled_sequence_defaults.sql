@@ -0,0 +1,9 @@
+-- Corrige a documentação da V11: com INCREMENT BY 50, o DEFAULT nextval das colunas id não é
+-- um fallback inofensivo. Cada linha gerada por SQL direto consome um bloco inteiro de 50 ids,
+-- inclusive linhas candidatas de INSERT ... ON CONFLICT que acabam descartadas.
+-- INSERTs em massa devem reservar os ids por bloco (ver TransactionBatchRepository) em vez de usar o DEFAULT.
+
+COMMENT ON SEQUENCE transactions_id_seq IS 'Sequence pooled (incremento 50) para Transaction; cada nextval reserva os 50 ids que terminam no valor retornado. O DEFAULT da coluna consome um bloco por linha';
+COMMENT ON SEQUENCE alerts_id_seq IS 'Sequence pooled (incremento 50) para Alert; o DEFAULT da coluna (upsert de alertas de orçamento) consome um bloco por linha gerada';
+COMMENT ON SEQUENCE budgets_id_seq IS 'Sequence pooled (incremento 50) para Budget; o DEFAULT da coluna consome um bloco por linha';
+COMMENT ON SEQUENCE categories_id_seq IS 'Sequence pooled (incremento 50) para Category; o DEFAULT da coluna consome um bloco por linha';
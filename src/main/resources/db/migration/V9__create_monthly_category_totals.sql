@@ -0,0 +1,47 @@
+CREATE TABLE monthly_category_totals (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    year INTEGER NOT NULL,
+    month INTEGER NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    total_amount NUMERIC(19, 2) NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_monthly_total_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_monthly_total_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE CASCADE
+);
+
+-- Validação de mês (1-12)
+ALTER TABLE monthly_category_totals ADD CONSTRAINT chk_monthly_total_month
+    CHECK (month >= 1 AND month <= 12);
+
+-- Validação de valores do ENUM TransactionType
+ALTER TABLE monthly_category_totals ADD CONSTRAINT chk_monthly_total_type
+    CHECK (type IN ('INCOME', 'EXPENSE'));
+
+-- Chave natural do agregado, usada pelo upsert incremental
+CREATE UNIQUE INDEX uk_monthly_category_totals
+    ON monthly_category_totals(user_id, year, month, category_id, type);
+
+CREATE INDEX idx_monthly_category_totals_category
+    ON monthly_category_totals(category_id);
+
+-- Carga inicial a partir das transações ativas existentes
+INSERT INTO monthly_category_totals (user_id, category_id, year, month, type, total_amount, transaction_count, updated_at)
+SELECT user_id,
+       category_id,
+       EXTRACT(YEAR FROM date)::INTEGER,
+       EXTRACT(MONTH FROM date)::INTEGER,
+       type,
+       SUM(amount),
+       COUNT(*),
+       NOW()
+FROM transactions
+WHERE deleted = false
+GROUP BY user_id, category_id, EXTRACT(YEAR FROM date), EXTRACT(MONTH FROM date), type;
+
+-- Comentários de documentação
+COMMENT ON TABLE monthly_category_totals IS 'Totais mensais por usuário/categoria/tipo, mantidos incrementalmente a cada escrita de transação';
+COMMENT ON COLUMN monthly_category_totals.total_amount IS 'Soma dos valores das transações ativas do período';
+COMMENT ON COLUMN monthly_category_totals.transaction_count IS 'Quantidade de transações ativas do período';
@@ -0,0 +1,127 @@
+package br.com.moneyflow.repository;
+
+import br.com.moneyflow.model.entity.Category;
+import br.com.moneyflow.model.entity.CategoryType;
+import br.com.moneyflow.model.entity.PaymentMethod;
+import br.com.moneyflow.model.entity.Transaction;
+import br.com.moneyflow.model.entity.TransactionType;
+import br.com.moneyflow.model.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que inserts em massa são enviados em lotes JDBC, comparando a quantidade de
+ * statements preparados com e sem batching. A vazão medida é apenas registrada em log.
+ * Requer um PostgreSQL local configurado via JDBC_DATABASE_URL.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@EnabledIfEnvironmentVariable(named = "JDBC_DATABASE_URL", matches = ".+")
+class BulkInsertThroughputTests {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkInsertThroughputTests.class);
+
+    private static final int ROWS = 2000;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void saveAllIsBatched() {
+        Category category = createCategory();
+        Session session = entityManager.unwrap(Session.class);
+        Statistics statistics = session.getSessionFactory().unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        session.setJdbcBatchSize(1);
+        long unbatchedNanos = insert(category);
+        long unbatchedStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        session.setJdbcBatchSize(null);
+        long batchedNanos = insert(category);
+        long batchedStatements = statistics.getPrepareStatementCount();
+
+        log.info("Inserts em massa ({} linhas): sem batch {} linhas/s ({} statements), com batch {} linhas/s ({} statements)",
+                ROWS, Math.round(rowsPerSecond(unbatchedNanos)), unbatchedStatements,
+                Math.round(rowsPerSecond(batchedNanos)), batchedStatements);
+
+        // Sem batching cada linha prepara o próprio INSERT
+        assertTrue(unbatchedStatements >= ROWS,
+                () -> "Esperado um INSERT por linha sem batch, mas foram preparados " + unbatchedStatements + " statements");
+
+        // Com batching: um INSERT por lote mais uma chamada de sequence a cada allocationSize (= batch_size) ids
+        long maxBatchedStatements = 2L * Math.ceilDiv(ROWS, batchSize) + 2;
+        assertTrue(batchedStatements <= maxBatchedStatements,
+                () -> "Esperado INSERT em lotes de " + batchSize + ", mas foram preparados "
+                        + batchedStatements + " statements (máximo " + maxBatchedStatements + ")");
+    }
+
+    private long insert(Category category) {
+        List<Transaction> transactions = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setUser(category.getUser());
+            transaction.setCategory(category);
+            transaction.setDescription("Transação " + i);
+            transaction.setAmount(BigDecimal.TEN);
+            transaction.setDate(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+            transaction.setType(TransactionType.EXPENSE);
+            transaction.setPaymentMethod(PaymentMethod.PIX);
+            transactions.add(transaction);
+        }
+
+        long start = System.nanoTime();
+        transactionRepository.saveAll(transactions);
+        entityManager.flush();
+        long elapsed = System.nanoTime() - start;
+
+        entityManager.clear();
+        return elapsed;
+    }
+
+    private Category createCategory() {
+        User user = new User();
+        user.setName("Benchmark");
+        user.setEmail("benchmark-" + System.nanoTime() + "@moneyflow.test");
+        user.setPassword("x".repeat(60));
+        entityManager.persist(user);
+
+        Category category = new Category();
+        category.setUser(user);
+        category.setName("Benchmark");
+        category.setType(CategoryType.EXPENSE);
+        category.setColor("#000000");
+        category.setIcon("bench");
+        entityManager.persist(category);
+        entityManager.flush();
+        return category;
+    }
+
+    private double rowsPerSecond(long nanos) {
+        return ROWS / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.moneyflow.repository;
+
+import br.com.moneyflow.model.entity.Category;
+import br.com.moneyflow.model.entity.CategoryType;
+import br.com.moneyflow.model.entity.PaymentMethod;
+import br.com.moneyflow.model.entity.Transaction;
+import br.com.moneyflow.model.entity.TransactionType;
+import br.com.moneyflow.model.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Garante que os filtros por período continuam usando os índices de data e que as
+ * escritas do Hibernate em transactions filtram pela chave de partição.
+ * O plano é obtido do SQL que o Hibernate gera para os métodos dos repositórios
+ * (capturado por SqlCapture), executado com os mesmos parâmetros da chamada.
+ * Requer um PostgreSQL local configurado via JDBC_DATABASE_URL.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=br.com.moneyflow.repository.SqlCapture")
+@Transactional
+@EnabledIfEnvironmentVariable(named = "JDBC_DATABASE_URL", matches = ".+")
+class QueryPlanRegressionTests {
+
+    private static final long USER_ID = 1L;
+    private static final LocalDate START = LocalDate.of(2024, 3, 1);
+    private static final LocalDate END = LocalDate.of(2024, 3, 31);
+    // Nulos tipados, como o Hibernate os envia, para que o PostgreSQL infira o tipo de "? IS NULL"
+    private static final SqlParameterValue NULL_CATEGORY = new SqlParameterValue(Types.BIGINT, null);
+    private static final SqlParameterValue NULL_TYPE = new SqlParameterValue(Types.VARCHAR, null);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        SqlCapture.clear();
+    }
+
+    @Test
+    void sumExpensesByPeriodUsesDateIndex() {
+        transactionRepository.sumExpensesByPeriod(USER_ID, START, END);
+
+        assertDateIndexUsed(capturedSql(), USER_ID, date(START), date(END));
+    }
+
+    @Test
+    void findExpensesByCategoryUsesDateIndex() {
+        transactionRepository.findExpensesByCategory(USER_ID, START, END);
+
+        assertDateIndexUsed(capturedSql(), USER_ID, date(START), date(END));
+    }
+
+    @Test
+    void countByFiltersUsesDateIndex() {
+        transactionRepository.countByFilters(USER_ID, null, null, START, END);
+
+        // Cada ocorrência de parâmetro nomeado vira um "?" próprio, na ordem em que aparece na consulta
+        assertDateIndexUsed(capturedSql(), USER_ID, NULL_CATEGORY, NULL_CATEGORY, NULL_TYPE, NULL_TYPE,
+                date(START), date(START), date(END), date(END));
+    }
+
+    @Test
+    void budgetStatusUsesRollupKey() {
+        budgetRepository.findBudgetStatusByUserAndPeriod(USER_ID, 3, 2024);
+
+        List<String> plan = explain(capturedSql(), USER_ID, 3, 2024);
+
+        assertTrue(plan.stream().noneMatch(line -> line.contains("Seq Scan on monthly_category_totals")),
+                () -> "Plano esperado sem varredura sequencial do rollup:\n" + String.join("\n", plan));
+    }
+
+    @Test
+    void transactionUpdateFiltersByPartitionKey() {
+        Transaction transaction = persistTransaction();
+        SqlCapture.clear();
+
+        transaction.setNotes("Editada");
+        entityManager.flush();
+
+        String sql = capturedSql().toLowerCase(Locale.ROOT);
+        String where = sql.substring(sql.lastIndexOf(" where ") + 1);
+        assertTrue(sql.startsWith("update transactions") && where.matches(".*\\bdate\\s*=\\s*\\?.*"),
+                () -> "UPDATE deveria filtrar pela chave de partição (date): " + sql);
+    }
+
+    private Transaction persistTransaction() {
+        User user = new User();
+        user.setName("Plano");
+        user.setEmail("plano-" + System.nanoTime() + "@moneyflow.test");
+        user.setPassword("x".repeat(60));
+        entityManager.persist(user);
+
+        Category category = new Category();
+        category.setUser(user);
+        category.setName("Plano");
+        category.setType(CategoryType.EXPENSE);
+        category.setColor("#000000");
+        category.setIcon("plan");
+        entityManager.persist(category);
+
+        Transaction transaction = new Transaction();
+        transaction.setUser(user);
+        transaction.setCategory(category);
+        transaction.setDescription("Transação");
+        transaction.setAmount(BigDecimal.TEN);
+        transaction.setDate(START);
+        transaction.setType(TransactionType.EXPENSE);
+        transaction.setPaymentMethod(PaymentMethod.PIX);
+        entityManager.persist(transaction);
+        entityManager.flush();
+        return transaction;
+    }
+
+    private String capturedSql() {
+        String sql = SqlCapture.lastSql();
+        assertNotNull(sql, "Nenhum SQL capturado para a chamada do repositório");
+        return sql;
+    }
+
+    private void assertDateIndexUsed(String sql, Object... args) {
+        List<String> plan = explain(sql, args);
+
+        boolean dateInIndexCond = plan.stream()
+                .anyMatch(line -> line.contains("Index Cond") && line.contains("date"));
+
+        assertTrue(dateInIndexCond,
+                () -> "Predicado de data deveria ser condição de índice:\n" + sql + "\n" + String.join("\n", plan));
+    }
+
+    private List<String> explain(String sql, Object... args) {
+        long placeholders = sql.chars().filter(ch -> ch == '?').count();
+        assertEquals(args.length, placeholders,
+                () -> "Quantidade de parâmetros difere do SQL gerado: " + sql + " " + Arrays.toString(args));
+
+        // Tabelas de teste são pequenas; desabilitar seq scan força o planner a revelar os índices elegíveis
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args);
+    }
+
+    private static Date date(LocalDate value) {
+        return Date.valueOf(value);
+    }
+}
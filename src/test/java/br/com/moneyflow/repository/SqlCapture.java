@@ -0,0 +1,26 @@
+package br.com.moneyflow.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Guarda o último SQL gerado pelo Hibernate na thread atual, para inspeção nos testes.
+ * Registrado via hibernate.session_factory.statement_inspector.
+ */
+public class SqlCapture implements StatementInspector {
+
+    private static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        LAST_SQL.set(sql);
+        return sql;
+    }
+
+    static String lastSql() {
+        return LAST_SQL.get();
+    }
+
+    static void clear() {
+        LAST_SQL.remove();
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.model.dto.projection.BudgetAlertProjection;
+import br.com.moneyflow.model.entity.Budget;
+import br.com.moneyflow.model.entity.Category;
+import br.com.moneyflow.model.entity.CategoryType;
+import br.com.moneyflow.model.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Avalia o mesmo orçamento a partir de várias threads e garante que o upsert
+ * nunca produz mais de um alerta ativo por orçamento.
+ * Requer um PostgreSQL local configurado via JDBC_DATABASE_URL.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfEnvironmentVariable(named = "JDBC_DATABASE_URL", matches = ".+")
+class BudgetAlertConcurrencyTests {
+
+    private static final int THREADS = 16;
+    private static final int EVALUATIONS_PER_THREAD = 50;
+    private static final BigDecimal BUDGET_AMOUNT = BigDecimal.valueOf(100);
+
+    @Autowired
+    private AlertService alertService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long userId;
+    private Long categoryId;
+    private Long budgetId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = new User();
+            user.setName("Alert concurrency");
+            user.setEmail("alerts-" + System.nanoTime() + "@moneyflow.test");
+            user.setPassword("x".repeat(60));
+            entityManager.persist(user);
+
+            Category category = new Category();
+            category.setUser(user);
+            category.setName("Mercado");
+            category.setType(CategoryType.EXPENSE);
+            category.setColor("#000000");
+            category.setIcon("cart");
+            entityManager.persist(category);
+
+            Budget budget = Budget.builder()
+                    .user(user)
+                    .category(category)
+                    .amount(BUDGET_AMOUNT)
+                    .month(1)
+                    .year(2024)
+                    .build();
+            entityManager.persist(budget);
+
+            userId = user.getId();
+            categoryId = category.getId();
+            budgetId = budget.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM alerts WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM budgets WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM categories WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void concurrentEvaluationsKeepSingleActiveAlert() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < EVALUATIONS_PER_THREAD; i++) {
+                    BigDecimal spent = (thread + i) % 2 == 0 ? BigDecimal.valueOf(85) : BigDecimal.valueOf(120);
+                    alertService.checkAndSendBudgetAlert(status(spent));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(1, countActiveAlerts(), "Deve existir exatamente um alerta ativo para o orçamento");
+    }
+
+    @Test
+    void evaluationIssuesSingleStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        alertService.checkAndSendBudgetAlert(status(BigDecimal.valueOf(90)));
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        alertService.checkAndSendBudgetAlert(status(BigDecimal.valueOf(90)));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, countActiveAlerts());
+
+        alertService.checkAndSendBudgetAlert(status(BigDecimal.valueOf(150)));
+        assertEquals("CRITICAL", jdbcTemplate.queryForObject(
+                "SELECT level FROM alerts WHERE budget_id = ?", String.class, budgetId));
+
+        alertService.checkAndSendBudgetAlert(status(BigDecimal.TEN));
+        assertEquals(0, countActiveAlerts());
+    }
+
+    private int countActiveAlerts() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM alerts WHERE budget_id = ? AND level IN ('WARNING', 'CRITICAL')",
+                Integer.class, budgetId);
+        return count != null ? count : 0;
+    }
+
+    private BudgetAlertProjection status(BigDecimal spent) {
+        return new TestBudgetAlert(budgetId, userId, categoryId, "Mercado", 1, 2024, BUDGET_AMOUNT, spent);
+    }
+
+    private record TestBudgetAlert(Long getId, Long getUserId, Long getCategoryId, String getCategoryName,
+                                   Integer getMonth, Integer getYear, BigDecimal getBudgetAmount,
+                                   BigDecimal getSpentAmount) implements BudgetAlertProjection {
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.moneyflow.service;
+
+import br.com.moneyflow.model.dto.transaction.TransactionCursorPageDTO;
+import br.com.moneyflow.model.dto.transaction.TransactionFilterDTO;
+import br.com.moneyflow.model.dto.transaction.TransactionResponseDTO;
+import br.com.moneyflow.model.entity.Category;
+import br.com.moneyflow.model.entity.CategoryType;
+import br.com.moneyflow.model.entity.PaymentMethod;
+import br.com.moneyflow.model.entity.Transaction;
+import br.com.moneyflow.model.entity.TransactionType;
+import br.com.moneyflow.model.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Garante que a listagem não carrega a categoria de cada item com um SELECT extra (N+1).
+ * Requer um PostgreSQL local configurado via JDBC_DATABASE_URL.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@EnabledIfEnvironmentVariable(named = "JDBC_DATABASE_URL", matches = ".+")
+class TransactionListStatementCountTests {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setName("Statement count");
+        user.setEmail("statements-" + System.nanoTime() + "@moneyflow.test");
+        user.setPassword("x".repeat(60));
+        entityManager.persist(user);
+        userId = user.getId();
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Category category = new Category();
+            category.setUser(user);
+            category.setName("Categoria " + i);
+            category.setType(CategoryType.EXPENSE);
+            category.setColor("#000000");
+            category.setIcon("tag");
+            entityManager.persist(category);
+
+            Transaction transaction = new Transaction();
+            transaction.setUser(user);
+            transaction.setCategory(category);
+            transaction.setDescription("Transação " + i);
+            transaction.setAmount(BigDecimal.TEN);
+            transaction.setDate(LocalDate.now().minusDays(i));
+            transaction.setType(TransactionType.EXPENSE);
+            transaction.setPaymentMethod(PaymentMethod.PIX);
+            entityManager.persist(transaction);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void offsetPageUsesListAndCountQueriesOnly() {
+        Page<TransactionResponseDTO> page = transactionService.getTransactions(
+                userId, emptyFilters(), PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "date")));
+
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void cursorPageUsesSingleQuery() {
+        TransactionCursorPageDTO page = transactionService.getTransactionsByCursor(
+                userId, emptyFilters(), "", PAGE_SIZE, false);
+
+        assertEquals(PAGE_SIZE, page.content().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private TransactionFilterDTO emptyFilters() {
+        return new TransactionFilterDTO(null, null, null, null);
+    }
+}